@@ -27,11 +27,13 @@ import de.erethon.dungeonsxl.config.GlobalData;
 import de.erethon.dungeonsxl.config.MainConfig;
 import de.erethon.dungeonsxl.dungeon.DungeonCache;
 import de.erethon.dungeonsxl.game.Game;
+import de.erethon.dungeonsxl.game.GameCache;
 import de.erethon.dungeonsxl.game.GameTypeCache;
 import de.erethon.dungeonsxl.global.GlobalProtectionCache;
 import de.erethon.dungeonsxl.loottable.DLootTableCache;
 import de.erethon.dungeonsxl.mob.DMobTypeCache;
 import de.erethon.dungeonsxl.mob.ExternalMobProviderCache;
+import de.erethon.dungeonsxl.player.BlockMoveDispatcher;
 import de.erethon.dungeonsxl.player.DClassCache;
 import de.erethon.dungeonsxl.player.DGamePlayer;
 import de.erethon.dungeonsxl.player.DGroup;
@@ -79,6 +81,7 @@ public class DungeonsXL extends DREPlugin {
     private GlobalData globalData;
     private MainConfig mainConfig;
 
+    private BlockMoveDispatcher moveDispatcher;
     private DCommandCache dCommands;
     private DSignTypeCache dSigns;
     private GameTypeCache gameTypes;
@@ -96,7 +99,7 @@ public class DungeonsXL extends DREPlugin {
     private SignScriptCache signScripts;
     private DWorldCache dWorlds;
 
-    private CopyOnWriteArrayList<Game> games = new CopyOnWriteArrayList<>();
+    private GameCache games = new GameCache();
     private CopyOnWriteArrayList<DGroup> dGroups = new CopyOnWriteArrayList<>();
 
     public DungeonsXL() {
@@ -144,7 +147,8 @@ public class DungeonsXL extends DREPlugin {
 
         dGroups.clear();
 
-        // Delete DWorlds
+        // Delete DWorlds after the pending file operations have been finished
+        dWorlds.shutdown();
         dWorlds.deleteAllInstances();
 
         // Disable listeners
@@ -227,6 +231,7 @@ public class DungeonsXL extends DREPlugin {
         loadMainConfig(new File(getDataFolder(), "config.yml"));
         // Load Language 2
         loadMessageConfig(new File(LANGUAGES, mainConfig.getLanguage() + ".yml"));
+        loadMoveDispatcher();
         loadGameTypes();
         loadRequirementTypes();
         loadRewardTypes();
@@ -255,6 +260,7 @@ public class DungeonsXL extends DREPlugin {
         protections.loadAll();
         dPlayers.loadAll();
         dWorlds.check();
+        dWorlds.getInstancePool().warmUp();
     }
 
     /* Getters and loaders */
@@ -309,6 +315,20 @@ public class DungeonsXL extends DREPlugin {
         messageConfig = new MessageConfig(DMessage.class, file);
     }
 
+    /**
+     * @return the loaded instance of BlockMoveDispatcher
+     */
+    public BlockMoveDispatcher getMoveDispatcher() {
+        return moveDispatcher;
+    }
+
+    /**
+     * load / reload a new instance of BlockMoveDispatcher
+     */
+    public void loadMoveDispatcher() {
+        moveDispatcher = new BlockMoveDispatcher(this);
+    }
+
     /**
      * @return the loaded instance of DCommandCache
      */
@@ -536,9 +556,16 @@ public class DungeonsXL extends DREPlugin {
     }
 
     /**
-     * @return the games
+     * @return a live, unmodifiable view of the games
      */
     public List<Game> getGames() {
+        return games.getGames();
+    }
+
+    /**
+     * @return the loaded instance of GameCache
+     */
+    public GameCache getGameCache() {
         return games;
     }
 
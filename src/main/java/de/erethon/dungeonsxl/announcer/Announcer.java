@@ -17,7 +17,6 @@
 package de.erethon.dungeonsxl.announcer;
 
 import de.erethon.commons.chat.DefaultFontInfo;
-import de.erethon.commons.chat.MessageUtil;
 import de.erethon.commons.compatibility.CompatibilityHandler;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
@@ -31,12 +30,15 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.ClickEvent;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
@@ -58,6 +60,10 @@ public class Announcer {
 
     private List<String> description;
     private List<String> worlds;
+    private Set<String> worldNames;
+
+    private String[] renderedDescription;
+    private BaseComponent[] renderedButton;
 
     private String dungeonName;
     private String mapName;
@@ -91,7 +97,7 @@ public class Announcer {
         this.name = name;
 
         description = config.getStringList("description");
-        worlds = config.getStringList("worlds");
+        setWorlds(config.getStringList("worlds"));
 
         String identifier = config.getString("identifier");
         boolean multiFloor = config.getBoolean("multiFloor");
@@ -134,7 +140,7 @@ public class Announcer {
     public Announcer(String name, List<String> description, List<String> worlds, String identifier, boolean multiFloor, short maxGroupsPerGame, int maxPlayersPerGroup) {
         this.name = name;
         this.description = description;
-        this.worlds = worlds;
+        setWorlds(worlds);
 
         if (multiFloor) {
             dungeonName = identifier;
@@ -174,6 +180,7 @@ public class Announcer {
      */
     public void setDescription(List<String> description) {
         this.description = description;
+        renderedDescription = null;
     }
 
     /**
@@ -189,6 +196,16 @@ public class Announcer {
      */
     public void setWorlds(List<String> worlds) {
         this.worlds = worlds;
+        worldNames = worlds != null ? new HashSet<>(worlds) : Collections.<String>emptySet();
+    }
+
+    /**
+     * @param world
+     * the world to check
+     * @return if players in the world see the announcement
+     */
+    public boolean isAnnouncedIn(World world) {
+        return worldNames.isEmpty() || worldNames.contains(world.getName());
     }
 
     /**
@@ -325,29 +342,51 @@ public class Announcer {
     }
 
     /**
-     * Sends the announcement
+     * Renders the centered description and the join message so that sending the announcement to a player only passes the prepared payload on.
+     * This is done once per broadcast so that changes to the messages are picked up.
      */
-    public void send(Player player) {
-        for (String message : description) {
-            MessageUtil.sendCenteredMessage(player, message);
+    public void render() {
+        String[] rendered = new String[description.size()];
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = DefaultFontInfo.center(ChatColor.translateAlternateColorCodes('&', description.get(i)));
         }
 
         if (CompatibilityHandler.getInstance().isSpigot()) {
             ClickEvent onClick = new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/dungeonsxl join " + name);
 
-            BaseComponent[] message = TextComponent.fromLegacyText(ChatColor.translateAlternateColorCodes('&', DMessage.ANNOUNCER_CLICK.getMessage()));
+            BaseComponent[] message = TextComponent.fromLegacyText(DMessage.ANNOUNCER_CLICK.getMessage());
             for (BaseComponent slice : message) {
                 slice.setClickEvent(onClick);
             }
 
-            TextComponent center = new TextComponent(DefaultFontInfo.center(BaseComponent.toPlainText(message)).replaceAll(BaseComponent.toPlainText(message), ""));
-
-            ArrayList<BaseComponent> toSend = new ArrayList<>(Arrays.asList(message));
-            toSend.add(0, center);
-            player.spigot().sendMessage(toSend.toArray(new BaseComponent[]{}));
+            String plain = BaseComponent.toPlainText(message);
+            BaseComponent[] button = new BaseComponent[message.length + 1];
+            button[0] = new TextComponent(DefaultFontInfo.center(plain).replace(plain, ""));
+            System.arraycopy(message, 0, button, 1, message.length);
+            renderedButton = button;
 
         } else {
-            MessageUtil.sendCenteredMessage(player, DMessage.ANNOUNCER_CMD.getMessage(getName().toUpperCase()));
+            renderedButton = null;
+            rendered = Arrays.copyOf(rendered, rendered.length + 1);
+            rendered[rendered.length - 1] = DefaultFontInfo.center(DMessage.ANNOUNCER_CMD.getMessage(name.toUpperCase()));
+        }
+
+        renderedDescription = rendered;
+    }
+
+    /**
+     * Sends the announcement
+     */
+    public void send(Player player) {
+        if (renderedDescription == null) {
+            render();
+        }
+
+        for (String message : renderedDescription) {
+            player.sendMessage(message);
+        }
+        if (renderedButton != null) {
+            player.spigot().sendMessage(renderedButton);
         }
     }
 
@@ -17,11 +17,16 @@
 package de.erethon.dungeonsxl.announcer;
 
 import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.config.DMessage;
 import de.erethon.dungeonsxl.game.Game;
 import de.erethon.dungeonsxl.player.DGamePlayer;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.util.ProgressBar;
+import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -63,33 +68,47 @@ public class AnnouncerStartGameTask extends BukkitRunnable {
             return;
         }
 
-        Game game = null;
-
+        List<DGroup> dGroups = new ArrayList<>();
         for (DGroup dGroup : announcer.getDGroups()) {
-            if (dGroup == null) {
-                continue;
+            if (dGroup != null) {
+                dGroups.add(dGroup);
             }
-
-            if (game == null) {
-                game = new Game(dGroup, DungeonsXL.getInstance().getDWorlds().getResourceByName(announcer.getMapName()));
-            } else {
-                game.getDGroups().add(dGroup);
-            }
-
-            dGroup.setDungeon(announcer.getDungeonName() == null ? announcer.getMapName() : announcer.getDungeonName());
-            dGroup.setGameWorld(game.getWorld());
         }
 
-        if (game == null) {
+        DungeonsXL plugin = DungeonsXL.getInstance();
+        DResourceWorld resource = plugin.getDWorlds().getResourceByName(announcer.getMapName());
+        if (dGroups.isEmpty() || resource == null) {
             cancel();
             return;
         }
 
-        for (Player player : game.getPlayers()) {
-            DGamePlayer.create(player, game.getWorld());
-        }
-
         announcer.endStartTask();
+
+        DGroup first = dGroups.get(0);
+        Game.create(first, resource).thenAccept(game -> {
+            for (DGroup dGroup : dGroups) {
+                if (dGroup != first) {
+                    if (!plugin.getDGroups().contains(dGroup)) {
+                        continue;
+                    }
+                    game.addDGroup(dGroup);
+                }
+
+                dGroup.setDungeon(announcer.getDungeonName() == null ? announcer.getMapName() : announcer.getDungeonName());
+                dGroup.setGameWorld(game.getWorld());
+            }
+
+            for (Player player : game.getPlayers()) {
+                DGamePlayer.create(player, game.getWorld());
+            }
+        }).exceptionally(exception -> {
+            if (!DWorldCache.isCancellation(exception)) {
+                for (DGroup dGroup : dGroups) {
+                    dGroup.sendMessage(DMessage.ERROR_INSTANTIATION.getMessage(resource.getName()));
+                }
+            }
+            return null;
+        });
     }
 
 }
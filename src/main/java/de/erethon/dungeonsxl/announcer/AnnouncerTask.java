@@ -20,7 +20,6 @@ import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.player.DGlobalPlayer;
 import de.erethon.dungeonsxl.player.DInstancePlayer;
 import java.util.List;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -40,13 +39,14 @@ public class AnnouncerTask extends BukkitRunnable {
     @Override
     public void run() {
         Announcer announcer = announcers.get(index);
-        List<String> worlds = announcer.getWorlds();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByPlayer(player);
-            if (!(dPlayer instanceof DInstancePlayer) && dPlayer.isAnnouncerEnabled()) {
-                if (worlds.isEmpty() || worlds.contains(player.getWorld().getName())) {
-                    announcer.send(player);
-                }
+        announcer.render();
+        for (DGlobalPlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGlobalPlayerView()) {
+            if (dPlayer instanceof DInstancePlayer || !dPlayer.isAnnouncerEnabled()) {
+                continue;
+            }
+            Player player = dPlayer.getPlayer();
+            if (player.isOnline() && announcer.isAnnouncedIn(player.getWorld())) {
+                announcer.send(player);
             }
         }
 
@@ -25,7 +25,6 @@ import de.erethon.dungeonsxl.player.DGlobalPlayer;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.player.DInstancePlayer;
 import de.erethon.dungeonsxl.player.DPermission;
-import de.erethon.dungeonsxl.world.DEditWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
 import de.erethon.dungeonsxl.world.DWorldCache;
 import org.bukkit.command.CommandSender;
@@ -67,7 +66,6 @@ public class EditCommand extends DRECommand {
             return;
         }
 
-        DEditWorld editWorld = resource.instantiateAsEditWorld();
         DGroup dGroup = DGroup.getByPlayer(player);
         DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByPlayer(player);
 
@@ -81,7 +79,16 @@ public class EditCommand extends DRECommand {
             return;
         }
 
-        DEditPlayer.create(player, editWorld);
+        resource.instantiateAsEditWorldAsync().thenAccept(editWorld -> {
+            if (player.isOnline() && !(DungeonsXL.getInstance().getDPlayers().getByPlayer(player) instanceof DInstancePlayer)) {
+                DEditPlayer.create(player, editWorld);
+            }
+        }).exceptionally(exception -> {
+            if (!DWorldCache.isCancellation(exception) && player.isOnline()) {
+                MessageUtil.sendMessage(player, DMessage.ERROR_INSTANTIATION.getMessage(mapName));
+            }
+            return null;
+        });
     }
 
 }
@@ -18,6 +18,7 @@ package de.erethon.dungeonsxl.command;
 
 import de.erethon.commons.chat.MessageUtil;
 import de.erethon.commons.command.DRECommand;
+import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
 import de.erethon.dungeonsxl.player.DPermission;
 import de.erethon.dungeonsxl.world.DEditWorld;
@@ -94,6 +95,7 @@ public class MsgCommand extends DRECommand {
 
                     config.setMessage(id, msg);
                     config.save();
+                    DungeonsXL.getInstance().getGameCache().clearRules();
 
                 } else {
                     MessageUtil.sendMessage(player, DMessage.ERROR_MSG_FORMAT.getMessage());
@@ -29,6 +29,7 @@ import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.player.DInstancePlayer;
 import de.erethon.dungeonsxl.player.DPermission;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -79,7 +80,7 @@ public class PlayCommand extends DRECommand {
             DGroupCreateEvent event = new DGroupCreateEvent(dGroup, player, DGroupCreateEvent.Cause.COMMAND);
             Bukkit.getPluginManager().callEvent(event);
             if (event.isCancelled()) {
-                plugin.getDGroups().remove(dGroup);
+                dGroup.delete();
                 dGroup = null;
             }
         }
@@ -89,10 +90,17 @@ public class PlayCommand extends DRECommand {
         }
         dGroup.setDungeon(dungeon);
 
-        new Game(dGroup, dungeon.getMap());
-        for (Player groupPlayer : dGroup.getPlayers().getOnlinePlayers()) {
-            DGamePlayer.create(groupPlayer, dGroup.getGameWorld());
-        }
+        DResourceWorld map = dungeon.getMap();
+        Game.create(dGroup, map).thenAccept(game -> {
+            for (Player groupPlayer : game.getPlayers()) {
+                DGamePlayer.create(groupPlayer, game.getWorld());
+            }
+        }).exceptionally(exception -> {
+            if (!DWorldCache.isCancellation(exception) && player.isOnline()) {
+                MessageUtil.sendMessage(player, DMessage.ERROR_INSTANTIATION.getMessage(map.getName()));
+            }
+            return null;
+        });
     }
 
 }
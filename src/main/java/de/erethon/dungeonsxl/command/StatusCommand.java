@@ -21,7 +21,9 @@ import de.erethon.commons.command.DRECommand;
 import de.erethon.commons.compatibility.CompatibilityHandler;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
+import de.erethon.dungeonsxl.player.BlockMoveDispatcher;
 import de.erethon.dungeonsxl.player.DPermission;
+import de.erethon.dungeonsxl.world.InstancePool;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
@@ -137,6 +139,20 @@ public class StatusCommand extends DRECommand {
         MessageUtil.sendMessage(sender, "= InsaneMobs: " + insanemobsVersion + " " + insanemobsVersionCorrect);
         MessageUtil.sendMessage(sender, "= MythicMobs: " + mythicmobsVersion + " " + mythicmobsVersionCorrect);
         MessageUtil.sendMessage(sender, "= HolographicDisplays: " + holographicdisplaysVersion + " " + holographicdisplaysVersionCorrect);
+
+        InstancePool pool = plugin.getDWorlds().getInstancePool();
+        MessageUtil.sendMessage(sender, ChatColor.GRAY + "Instance pool info:");
+        MessageUtil.sendMessage(sender, "= Enabled: " + getSymbol(pool.isEnabled()));
+        MessageUtil.sendMessage(sender, "= Prepared instances: " + pool.size());
+        MessageUtil.sendMessage(sender, "= Hits: " + pool.getHits() + "; misses: " + pool.getMisses());
+
+        BlockMoveDispatcher dispatcher = plugin.getMoveDispatcher();
+        MessageUtil.sendMessage(sender, ChatColor.GRAY + "Move dispatcher info:");
+        MessageUtil.sendMessage(sender, "= Moves: " + dispatcher.getMoves() + "; block transitions: " + dispatcher.getTransitions());
+        for (BlockMoveDispatcher.Registration registration : dispatcher.getRegistrations()) {
+            MessageUtil.sendMessage(sender, "= " + registration.getName() + ": " + registration.getCalls() + " calls; "
+                    + registration.getAverageTime() / 1000 + " \u00b5s/call; " + registration.getTime() / 1000000 + " ms total");
+        }
     }
 
     public static String getSymbol(boolean value) {
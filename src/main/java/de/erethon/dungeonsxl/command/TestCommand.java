@@ -30,6 +30,7 @@ import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.player.DPermission;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -86,9 +87,20 @@ public class TestCommand extends DRECommand {
             editPlayer.leave();
             DResourceWorld resource = editPlayer.getEditWorld().getResource();
             Dungeon dungeon = new Dungeon(resource);
-            DGameWorld instance = resource.instantiateAsGameWorld();
-            Game game = new Game(new DGroup(player, dungeon), GameTypeDefault.TEST, instance);
-            DGamePlayer.create(player, game.getWorld(), GameTypeDefault.TEST);
+            resource.instantiateAsGameWorldAsync().thenAccept(instance -> {
+                if (!player.isOnline() || DGroup.getByPlayer(player) != null) {
+                    instance.delete();
+                    return;
+                }
+
+                Game game = new Game(new DGroup(player, dungeon), GameTypeDefault.TEST, instance);
+                DGamePlayer.create(player, game.getWorld(), GameTypeDefault.TEST);
+            }).exceptionally(exception -> {
+                if (!DWorldCache.isCancellation(exception) && player.isOnline()) {
+                    MessageUtil.sendMessage(player, DMessage.ERROR_INSTANTIATION.getMessage(resource.getName()));
+                }
+                return null;
+            });
         }
     }
 
@@ -19,7 +19,6 @@ package de.erethon.dungeonsxl.config;
 import de.erethon.commons.chat.MessageUtil;
 import de.erethon.commons.config.Message;
 import de.erethon.commons.javaplugin.DREPlugin;
-import org.bukkit.ChatColor;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -70,6 +69,7 @@ public enum DMessage implements Message {
     ERROR_DUNGEON_NOT_EXIST("Error_DungeonNotExist", "&4This dungeon does not exist."),
     ERROR_ENDERCHEST("Error_Enderchest", "&4You cannot use an enderchest while in a dungeon!"),
     ERROR_IN_GROUP("Error_InGroup", "&4The player &6&v1&4 is already member of a group."),
+    ERROR_INSTANTIATION("Error_Instantiation", "&4The map &6&v1&4 could not be loaded."),
     ERROR_JOIN_GROUP("Error_JoinGroup", "&4You have to join a group first!"),
     ERROR_LEAVE_DUNGEON("Error_LeaveDungeon", "&4You have to leave your current dungeon first!"),
     ERROR_LEAVE_GAME("Error_LeaveGame", "&4You have to leave your current game first!"),
@@ -242,6 +242,7 @@ public enum DMessage implements Message {
 
     private String identifier;
     private String message;
+    private volatile MessageTemplate template;
 
     DMessage(String identifier, String message) {
         this.identifier = identifier;
@@ -256,17 +257,31 @@ public enum DMessage implements Message {
 
     @Override
     public String getMessage() {
-        return ChatColor.translateAlternateColorCodes('&', message);
+        return getTemplate().getPlain();
     }
 
     @Override
     public String getMessage(String... args) {
-        return DREPlugin.getInstance().getMessageConfig().getMessage(this, args);
+        return getTemplate().render(args);
     }
 
     @Override
     public void setMessage(String message) {
         this.message = message;
+        template = null;
+    }
+
+    /**
+     * @return
+     * the parsed form of the message; compiled on first use after the message has been set
+     */
+    public MessageTemplate getTemplate() {
+        MessageTemplate template = this.template;
+        if (template == null) {
+            template = new MessageTemplate(message);
+            this.template = template;
+        }
+        return template;
     }
 
     /* Actions */
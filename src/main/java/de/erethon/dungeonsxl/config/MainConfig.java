@@ -21,6 +21,8 @@ import de.erethon.commons.compatibility.CompatibilityHandler;
 import de.erethon.commons.compatibility.Internals;
 import de.erethon.commons.config.DREConfig;
 import de.erethon.commons.misc.EnumUtil;
+import de.erethon.dungeonsxl.util.ChatFormat;
+import de.erethon.dungeonsxl.util.CommandWhitelist;
 import de.erethon.dungeonsxl.util.DColor;
 import static de.erethon.dungeonsxl.util.DColor.*;
 import de.erethon.dungeonsxl.world.WorldConfig;
@@ -47,7 +49,7 @@ public class MainConfig extends DREConfig {
         NEVER
     }
 
-    public static final int CONFIG_VERSION = 15;
+    public static final int CONFIG_VERSION = 16;
 
     private String language = "english";
     private boolean enableEconomy = false;
@@ -57,6 +59,9 @@ public class MainConfig extends DREConfig {
     private String chatFormatGame = "&2[Game] %group_color%%player_name%: &r";
     private String chatFormatGroup = "&2%group_color%[%group_name%] %player_name%: &r";
     private String chatFormatSpy = "&2[Chat Spy] %player_name%: &r";
+    private ChatFormat compiledChatFormatGame;
+    private ChatFormat compiledChatFormatGroup;
+    private ChatFormat compiledChatFormatSpy;
 
     /* Tutorial */
     private boolean tutorialActivated = false;
@@ -92,7 +97,14 @@ public class MainConfig extends DREConfig {
 
     /* Performance */
     private int maxInstances = 10;
+    private int instancePoolSize = 0;
+    private boolean instancePoolPreload = false;
+    private List<String> instancePoolMaps = new ArrayList<>();
     private boolean tweaksEnabled = false;
+    private double playerUpdateBudget = 2;
+    private int mobSpawnBudget = 10;
+    private int groupTagUpdateInterval = 2;
+    private double groupTagUpdateThreshold = 0.1;
 
     /* Secure Mode */
     private boolean secureModeEnabled = false;
@@ -100,6 +112,7 @@ public class MainConfig extends DREConfig {
     private boolean openInventories = false;
     private boolean dropItems = false;
     private List<String> editCommandWhitelist = new ArrayList<>();
+    private CommandWhitelist compiledEditCommandWhitelist;
     private BackupMode backupMode = BackupMode.ON_DISABLE_AND_SAVE;
 
     /* Permissions bridge */
@@ -177,6 +190,18 @@ public class MainConfig extends DREConfig {
      */
     public void setChatFormatGame(String string) {
         chatFormatGame = string;
+        compiledChatFormatGame = null;
+    }
+
+    /**
+     * @return
+     * the game chat format split into placeholders
+     */
+    public ChatFormat getCompiledChatFormatGame() {
+        if (compiledChatFormatGame == null) {
+            compiledChatFormatGame = new ChatFormat(chatFormatGame);
+        }
+        return compiledChatFormatGame;
     }
 
     /**
@@ -193,6 +218,18 @@ public class MainConfig extends DREConfig {
      */
     public void setChatFormatGroup(String string) {
         chatFormatGroup = string;
+        compiledChatFormatGroup = null;
+    }
+
+    /**
+     * @return
+     * the group chat format split into placeholders
+     */
+    public ChatFormat getCompiledChatFormatGroup() {
+        if (compiledChatFormatGroup == null) {
+            compiledChatFormatGroup = new ChatFormat(chatFormatGroup);
+        }
+        return compiledChatFormatGroup;
     }
 
     /**
@@ -209,6 +246,18 @@ public class MainConfig extends DREConfig {
      */
     public void setChatFormatSpy(String string) {
         chatFormatSpy = string;
+        compiledChatFormatSpy = null;
+    }
+
+    /**
+     * @return
+     * the chat spy chat format split into placeholders
+     */
+    public ChatFormat getCompiledChatFormatSpy() {
+        if (compiledChatFormatSpy == null) {
+            compiledChatFormatSpy = new ChatFormat(chatFormatSpy);
+        }
+        return compiledChatFormatSpy;
     }
 
     /**
@@ -362,6 +411,43 @@ public class MainConfig extends DREConfig {
         this.maxInstances = maxInstances;
     }
 
+    /**
+     * @return the amount of prepared instances to keep for each pooled map; 0 if the instance pool is disabled
+     */
+    public int getInstancePoolSize() {
+        return instancePoolSize;
+    }
+
+    /**
+     * @param size
+     * the amount of prepared instances to keep for each pooled map; 0 if the instance pool is disabled
+     */
+    public void setInstancePoolSize(int size) {
+        instancePoolSize = size;
+    }
+
+    /**
+     * @return if pooled instances are loaded in advance instead of only being copied
+     */
+    public boolean isInstancePoolPreloadEnabled() {
+        return instancePoolPreload;
+    }
+
+    /**
+     * @param preload
+     * if pooled instances are loaded in advance instead of only being copied
+     */
+    public void setInstancePoolPreloadEnabled(boolean preload) {
+        instancePoolPreload = preload;
+    }
+
+    /**
+     * @return the names of the maps to pool; if empty, every map that has been played is pooled
+     */
+    public List<String> getInstancePoolMaps() {
+        return instancePoolMaps;
+    }
+
     /**
      * @return if the performance tweaks are enabled
      */
@@ -377,6 +463,66 @@ public class MainConfig extends DREConfig {
         tweaksEnabled = enabled;
     }
 
+    /**
+     * @return the maximum time in milliseconds that may be spent on player updates per tick; 0 if unlimited
+     */
+    public double getPlayerUpdateBudget() {
+        return playerUpdateBudget;
+    }
+
+    /**
+     * @param budget
+     * the maximum time in milliseconds that may be spent on player updates per tick; 0 if unlimited
+     */
+    public void setPlayerUpdateBudget(double budget) {
+        playerUpdateBudget = budget;
+    }
+
+    /**
+     * @return the maximum amount of mobs that the mob signs of all game worlds may spawn per tick together; 0 if unlimited
+     */
+    public int getMobSpawnBudget() {
+        return mobSpawnBudget;
+    }
+
+    /**
+     * @param budget
+     * the maximum amount of mobs that the mob signs of all game worlds may spawn per tick together; 0 if unlimited
+     */
+    public void setMobSpawnBudget(int budget) {
+        mobSpawnBudget = budget;
+    }
+
+    /**
+     * @return the interval in ticks in which group tags are moved; 0 if they are moved whenever a player moves
+     */
+    public int getGroupTagUpdateInterval() {
+        return groupTagUpdateInterval;
+    }
+
+    /**
+     * @param interval
+     * the interval in ticks in which group tags are moved; 0 if they are moved whenever a player moves
+     */
+    public void setGroupTagUpdateInterval(int interval) {
+        groupTagUpdateInterval = interval;
+    }
+
+    /**
+     * @return the distance a player needs to move until the group tag is moved
+     */
+    public double getGroupTagUpdateThreshold() {
+        return groupTagUpdateThreshold;
+    }
+
+    /**
+     * @param threshold
+     * the distance a player needs to move until the group tag is moved
+     */
+    public void setGroupTagUpdateThreshold(double threshold) {
+        groupTagUpdateThreshold = threshold;
+    }
+
     /**
      * @return if the secure mode is enabled
      */
@@ -444,6 +590,16 @@ public class MainConfig extends DREConfig {
         return editCommandWhitelist;
     }
 
+    /**
+     * @return the editCommandWhitelist compiled for fast lookups
+     */
+    public CommandWhitelist getCompiledEditCommandWhitelist() {
+        if (compiledEditCommandWhitelist == null) {
+            compiledEditCommandWhitelist = new CommandWhitelist(editCommandWhitelist);
+        }
+        return compiledEditCommandWhitelist;
+    }
+
     /**
      * @return the backup mode
      */
@@ -548,10 +704,38 @@ public class MainConfig extends DREConfig {
             config.set("maxInstances", maxInstances);
         }
 
+        if (!config.contains("instancePoolSize")) {
+            config.set("instancePoolSize", instancePoolSize);
+        }
+
+        if (!config.contains("instancePoolPreload")) {
+            config.set("instancePoolPreload", instancePoolPreload);
+        }
+
+        if (!config.contains("instancePoolMaps")) {
+            config.set("instancePoolMaps", instancePoolMaps);
+        }
+
         if (!config.contains("tweaksEnabled")) {
             config.set("tweaksEnabled", tweaksEnabled);
         }
 
+        if (!config.contains("playerUpdateBudget")) {
+            config.set("playerUpdateBudget", playerUpdateBudget);
+        }
+
+        if (!config.contains("mobSpawnBudget")) {
+            config.set("mobSpawnBudget", mobSpawnBudget);
+        }
+
+        if (!config.contains("groupTagUpdateInterval")) {
+            config.set("groupTagUpdateInterval", groupTagUpdateInterval);
+        }
+
+        if (!config.contains("groupTagUpdateThreshold")) {
+            config.set("groupTagUpdateThreshold", groupTagUpdateThreshold);
+        }
+
         if (!config.contains("secureMode.enabled")) {
             config.set("secureMode.enabled", secureModeEnabled);
         }
@@ -605,14 +789,17 @@ public class MainConfig extends DREConfig {
 
         if (config.contains("chatFormatGame")) {
             chatFormatGame = config.getString("chatFormatGame");
+            compiledChatFormatGame = null;
         }
 
         if (config.contains("chatFormatGroup")) {
             chatFormatGroup = config.getString("chatFormatGroup");
+            compiledChatFormatGroup = null;
         }
 
         if (config.contains("chatFormatSpy")) {
             chatFormatSpy = config.getString("chatFormatSpy");
+            compiledChatFormatSpy = null;
         }
 
         if (config.contains("chatEnabled")) {
@@ -681,6 +868,18 @@ public class MainConfig extends DREConfig {
             maxInstances = config.getInt("maxInstances");
         }
 
+        if (config.contains("instancePoolSize")) {
+            instancePoolSize = config.getInt("instancePoolSize");
+        }
+
+        if (config.contains("instancePoolPreload")) {
+            instancePoolPreload = config.getBoolean("instancePoolPreload");
+        }
+
+        if (config.contains("instancePoolMaps")) {
+            instancePoolMaps = config.getStringList("instancePoolMaps");
+        }
+
         if (config.contains("tweaksEnabled")) {
             if (Internals.andHigher(Internals.v1_9_R1).contains(CompatibilityHandler.getInstance().getInternals())) {
                 tweaksEnabled = config.getBoolean("tweaksEnabled");
@@ -690,6 +889,22 @@ public class MainConfig extends DREConfig {
             }
         }
 
+        if (config.contains("playerUpdateBudget")) {
+            playerUpdateBudget = config.getDouble("playerUpdateBudget");
+        }
+
+        if (config.contains("mobSpawnBudget")) {
+            mobSpawnBudget = config.getInt("mobSpawnBudget");
+        }
+
+        if (config.contains("groupTagUpdateInterval")) {
+            groupTagUpdateInterval = config.getInt("groupTagUpdateInterval");
+        }
+
+        if (config.contains("groupTagUpdateThreshold")) {
+            groupTagUpdateThreshold = config.getDouble("groupTagUpdateThreshold");
+        }
+
         if (config.contains("secureMode.enabled")) {
             secureModeEnabled = config.getBoolean("secureMode.enabled");
         }
@@ -708,6 +923,7 @@ public class MainConfig extends DREConfig {
 
         if (config.contains("secureMode.editCommandWhitelist")) {
             editCommandWhitelist = config.getStringList("secureMode.editCommandWhitelist");
+            compiledEditCommandWhitelist = null;
         }
 
         if (config.contains("backupMode")) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.ChatColor;
+
+/**
+ * A language entry that is parsed once: color codes are translated and the message is split into literal text and &v1-style placeholders,
+ * so that rendering it only appends strings.
+ *
+ * @author agent
+ */
+public class MessageTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private String[] literals;
+    private int[] arguments;
+    private String plain;
+
+    /**
+     * @param message
+     * the raw message as it is stored in the language file
+     */
+    public MessageTemplate(String message) {
+        String translated = ChatColor.translateAlternateColorCodes('&', message);
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+
+        int start = 0;
+        int i = 0;
+        while (i < translated.length()) {
+            int end = getPlaceholderEnd(translated, i);
+            if (end == -1) {
+                i++;
+                continue;
+            }
+            literals.add(translated.substring(start, i));
+            arguments.add(Integer.parseInt(translated.substring(i + 2, end)) - 1);
+            i = end;
+            start = i;
+        }
+        literals.add(translated.substring(start));
+
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.arguments = new int[arguments.size()];
+        for (int j = 0; j < this.arguments.length; j++) {
+            this.arguments[j] = arguments.get(j);
+        }
+        plain = translated;
+    }
+
+    private static int getPlaceholderEnd(String message, int index) {
+        if (message.charAt(index) != '&' || !message.startsWith("&v", index)) {
+            return -1;
+        }
+        int end = index + 2;
+        while (end < message.length() && Character.isDigit(message.charAt(end))) {
+            end++;
+        }
+        return end == index + 2 || end - index > 11 ? -1 : end;
+    }
+
+    /**
+     * @return
+     * the message with translated color codes and untouched placeholders
+     */
+    public String getPlain() {
+        return plain;
+    }
+
+    /**
+     * @return
+     * if the message contains any placeholders
+     */
+    public boolean hasArguments() {
+        return arguments.length > 0;
+    }
+
+    /**
+     * Replaces the placeholders with the arguments.
+     * Placeholders that do not have a matching argument are kept as they are.
+     *
+     * @param args
+     * the arguments; &v1 is replaced with the first one
+     * @return
+     * the rendered message
+     */
+    public String render(String... args) {
+        if (arguments.length == 0 || args == null || args.length == 0) {
+            return plain;
+        }
+
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        for (int i = 0; i < arguments.length; i++) {
+            builder.append(literals[i]);
+            int argument = arguments[i];
+            if (argument >= 0 && argument < args.length) {
+                builder.append(args[argument]);
+            } else {
+                builder.append("&v").append(argument + 1);
+            }
+        }
+        builder.append(literals[literals.length - 1]);
+        return builder.toString();
+    }
+
+}
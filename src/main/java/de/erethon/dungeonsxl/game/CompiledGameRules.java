@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.game;
+
+import de.erethon.dungeonsxl.util.CommandWhitelist;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+
+/**
+ * An immutable snapshot of the {@link GameRuleProvider} values that are read by event handlers, such as block breaking,
+ * block placing and damage.
+ * <p>
+ * The values are stored in primitive fields and enum sets so that reading them does not need any unboxing, null checks or
+ * hashing. The snapshot is held by the {@link Game} next to its rules and recompiled when values are applied to them.
+ *
+ * @author agent
+ */
+public final class CompiledGameRules {
+
+    private final boolean breakBlocks;
+    private final boolean breakPlacedBlocks;
+    // The tools that may break each whitelisted material; null if there is no whitelist
+    private final EnumMap<Material, EnumSet<Material>> breakTools;
+    private final boolean placeBlocks;
+    // null if there is no whitelist
+    private final EnumSet<Material> placeWhitelist;
+    private final EnumSet<EntityType> damageProtectedEntities;
+    private final EnumSet<EntityType> interactionProtectedEntities;
+
+    private final boolean playerVersusPlayer;
+    private final boolean friendlyFire;
+
+    private final CommandWhitelist gameCommandWhitelist;
+
+    /**
+     * @param rules
+     * the rules to compile; all values that do not allow null must be set, for example by applying
+     * {@link GameRuleProvider#DEFAULT_VALUES}
+     */
+    public CompiledGameRules(GameRuleProvider rules) {
+        breakBlocks = rules.canBreakBlocks();
+        breakPlacedBlocks = rules.canBreakPlacedBlocks();
+        breakTools = compileBreakTools(rules.getBreakWhitelist());
+        placeBlocks = rules.canPlaceBlocks();
+        placeWhitelist = rules.getPlaceWhitelist() != null ? toEnumSet(Material.class, rules.getPlaceWhitelist()) : null;
+        damageProtectedEntities = toEnumSet(EntityType.class, rules.getDamageProtectedEntities());
+        interactionProtectedEntities = toEnumSet(EntityType.class, rules.getInteractionProtectedEntities());
+
+        playerVersusPlayer = rules.isPlayerVersusPlayer();
+        friendlyFire = rules.isFriendlyFire();
+
+        gameCommandWhitelist = new CommandWhitelist(rules.getGameCommandWhitelist());
+    }
+
+    private static EnumMap<Material, EnumSet<Material>> compileBreakTools(Map<Material, HashSet<Material>> whitelist) {
+        if (whitelist == null) {
+            return null;
+        }
+
+        EnumMap<Material, EnumSet<Material>> breakTools = new EnumMap<>(Material.class);
+        for (Map.Entry<Material, HashSet<Material>> entry : whitelist.entrySet()) {
+            // Unknown config values are parsed to null
+            if (entry.getKey() == null) {
+                continue;
+            }
+            Set<Material> tools = entry.getValue();
+            if (tools == null || tools.isEmpty()) {
+                breakTools.put(entry.getKey(), EnumSet.allOf(Material.class));
+            } else {
+                breakTools.put(entry.getKey(), toEnumSet(Material.class, tools));
+            }
+        }
+        return breakTools;
+    }
+
+    private static <E extends Enum<E>> EnumSet<E> toEnumSet(Class<E> type, Collection<E> collection) {
+        EnumSet<E> set = EnumSet.noneOf(type);
+        if (collection != null) {
+            for (E element : collection) {
+                // Unknown config values are parsed to null
+                if (element != null) {
+                    set.add(element);
+                }
+            }
+        }
+        return set;
+    }
+
+    /* Getters */
+    /**
+     * @return if all blocks may be destroyed
+     */
+    public boolean canBreakBlocks() {
+        return breakBlocks;
+    }
+
+    /**
+     * @return if blocks placed by a player may be destroyed
+     */
+    public boolean canBreakPlacedBlocks() {
+        return breakPlacedBlocks;
+    }
+
+    /**
+     * @param material
+     * the material of the block
+     * @param tool
+     * the material of the item the block is broken with
+     * @return if the break whitelist allows to break the block with the tool; true if there is no whitelist
+     */
+    public boolean isBreakWhitelisted(Material material, Material tool) {
+        if (breakTools == null) {
+            return true;
+        }
+        EnumSet<Material> tools = breakTools.get(material);
+        return tools != null && tools.contains(tool);
+    }
+
+    /**
+     * @return if blocks may be placed
+     */
+    public boolean canPlaceBlocks() {
+        return placeBlocks;
+    }
+
+    /**
+     * @param material
+     * the material of the block
+     * @return if the place whitelist allows to place the block; true if there is no whitelist
+     */
+    public boolean isPlaceWhitelisted(Material material) {
+        return placeWhitelist == null || placeWhitelist.contains(material);
+    }
+
+    /**
+     * @param type
+     * the entity type
+     * @return if entities of this type cannot be damaged
+     */
+    public boolean isDamageProtected(EntityType type) {
+        return damageProtectedEntities.contains(type);
+    }
+
+    /**
+     * @param type
+     * the entity type
+     * @return if players cannot interact with entities of this type
+     */
+    public boolean isInteractionProtected(EntityType type) {
+        return interactionProtectedEntities.contains(type);
+    }
+
+    /**
+     * @return if players may attack each other
+     */
+    public boolean isPlayerVersusPlayer() {
+        return playerVersusPlayer;
+    }
+
+    /**
+     * @return if players may attack group members
+     */
+    public boolean isFriendlyFire() {
+        return friendlyFire;
+    }
+
+    /**
+     * @return the commands that players may use in the game
+     */
+    public CommandWhitelist getGameCommandWhitelist() {
+        return gameCommandWhitelist;
+    }
+
+}
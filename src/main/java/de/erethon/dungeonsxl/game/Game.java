@@ -29,6 +29,7 @@ import de.erethon.dungeonsxl.trigger.ProgressTrigger;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
 import de.erethon.dungeonsxl.world.WorldConfig;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -36,6 +37,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -52,21 +55,27 @@ public class Game {
     
     private boolean tutorial;
     private List<DGroup> dGroups = new ArrayList<>();
+    private List<DGroup> dGroupsView = new DGroupList();
     private boolean started;
     private GameType type = GameTypeDefault.DEFAULT;
     private DGameWorld world;
     private GameRuleProvider rules;
+    private CompiledGameRules compiledRules;
+    private int compiledModCount;
     private int waveCount;
     private Map<String, Integer> gameKills = new HashMap<>();
     private Map<String, Integer> waveKills = new HashMap<>();
+    private int gameKillCount;
+    private int waveKillCount;
 
     public Game(DGroup dGroup) {
-        DungeonsXL.getInstance().getGames().add(this);
+        plugin.getGameCache().add(this);
 
         tutorial = false;
         started = false;
 
         dGroups.add(dGroup);
+        plugin.getGameCache().indexDGroup(this, dGroup);
         dGroup.setGameWorld(world);
         fetchRules();
         dGroup.setInitialLives(rules.getInitialGroupLives());
@@ -75,13 +84,15 @@ public class Game {
     }
 
     public Game(DGroup dGroup, DGameWorld world) {
-        plugin.getGames().add(this);
+        plugin.getGameCache().add(this);
 
         tutorial = false;
         started = false;
         this.world = world;
+        plugin.getGameCache().indexWorld(this, null, world);
 
         dGroups.add(dGroup);
+        plugin.getGameCache().indexDGroup(this, dGroup);
         dGroup.setGameWorld(world);
         fetchRules();
         dGroup.setInitialLives(rules.getInitialGroupLives());
@@ -89,15 +100,21 @@ public class Game {
         dGroup.setScore(rules.getInitialScore());
     }
 
+    /**
+     * @deprecated blocks the main thread until the world is loaded; use {@link #create(DGroup, DResourceWorld)}
+     */
+    @Deprecated
     public Game(DGroup dGroup, DResourceWorld resource) {
-        plugin.getGames().add(this);
+        plugin.getGameCache().add(this);
 
         tutorial = false;
         started = false;
         world = resource.instantiateAsGameWorld();
         world.setType(DGameWorld.Type.START_FLOOR);
+        plugin.getGameCache().indexWorld(this, null, world);
 
         dGroups.add(dGroup);
+        plugin.getGameCache().indexDGroup(this, dGroup);
         dGroup.setGameWorld(world);
         fetchRules();
         dGroup.setInitialLives(rules.getInitialGroupLives());
@@ -110,15 +127,17 @@ public class Game {
     }
 
     public Game(List<DGroup> dGroups, GameType type, DGameWorld world) {
-        plugin.getGames().add(this);
+        plugin.getGameCache().add(this);
 
         this.dGroups = dGroups;
         this.type = type;
         this.world = world;
         this.tutorial = false;
         this.started = true;
+        plugin.getGameCache().indexWorld(this, null, world);
 
         for (DGroup dGroup : dGroups) {
+            plugin.getGameCache().indexDGroup(this, dGroup);
             dGroup.setGameWorld(world);
             fetchRules();
             dGroup.setInitialLives(rules.getInitialGroupLives());
@@ -143,10 +162,13 @@ public class Game {
     }
 
     /**
+     * Changes to the returned list are routed through {@link #addDGroup(DGroup)} and {@link #removeDGroup(DGroup)} so that the groups stay
+     * indexed in the {@link GameCache}.
+     *
      * @return the dGroups
      */
     public List<DGroup> getDGroups() {
-        return dGroups;
+        return dGroupsView;
     }
 
     /**
@@ -154,7 +176,12 @@ public class Game {
      * the dGroups to add
      */
     public void addDGroup(DGroup dGroup) {
-        dGroups.add(dGroup);
+        addDGroup(dGroups.size(), dGroup);
+    }
+
+    private void addDGroup(int index, DGroup dGroup) {
+        dGroups.add(index, dGroup);
+        plugin.getGameCache().indexDGroup(this, dGroup);
 
         dGroup.setGameWorld(world);
         dGroup.setInitialLives(rules.getInitialGroupLives());
@@ -167,6 +194,7 @@ public class Game {
      */
     public void removeDGroup(DGroup dGroup) {
         dGroups.remove(dGroup);
+        plugin.getGameCache().unindexDGroup(this, dGroup);
 
         if (dGroups.isEmpty()) {
             delete();
@@ -215,6 +243,7 @@ public class Game {
      * the DGameWorld to connect to the Game
      */
     public void setWorld(DGameWorld world) {
+        plugin.getGameCache().indexWorld(this, this.world, world);
         this.world = world;
     }
 
@@ -231,6 +260,21 @@ public class Game {
      */
     public void setRules(GameRuleProvider rules) {
         this.rules = rules;
+        compiledRules = null;
+    }
+
+    /**
+     * The snapshot is compiled again if values have been applied to the rules since it has been compiled. Only {@link #setRules(GameRuleProvider)}
+     * and {@link GameRuleProvider#apply(GameRuleProvider)} refresh it; changes made directly to the collections of the rules are not picked up.
+     *
+     * @return an immutable snapshot of the rules that are read by event handlers
+     */
+    public CompiledGameRules getCompiledRules() {
+        if (compiledRules == null || compiledModCount != rules.modCount) {
+            compiledRules = new CompiledGameRules(rules);
+            compiledModCount = rules.modCount;
+        }
+        return compiledRules;
     }
 
     /**
@@ -241,6 +285,8 @@ public class Game {
      * 4. Dungeon config: Default values
      * 5. Main config: Default values
      * 6. The default values
+     * <p>
+     * The merged and the compiled rules are cached by the {@link GameCache}.
      */
     public void fetchRules() {
         DungeonConfig dungeonConfig = null;
@@ -253,29 +299,9 @@ public class Game {
             floorConfig = world.getConfig();
         }
 
-        GameRuleProvider finalRules = new GameRuleProvider();
-
-        if (type != null) {
-            finalRules.apply(type);
-        }
-
-        if (dungeonConfig != null && dungeonConfig.getOverrideValues() != null) {
-            finalRules.apply(dungeonConfig.getOverrideValues());
-        }
-
-        if (floorConfig != null) {
-            finalRules.apply(floorConfig);
-        }
-
-        if (dungeonConfig != null && dungeonConfig.getDefaultValues() != null) {
-            finalRules.apply(dungeonConfig.getDefaultValues());
-        }
-
-        finalRules.apply(plugin.getMainConfig().getDefaultWorldConfig());
-
-        finalRules.apply(GameRuleProvider.DEFAULT_VALUES);
-
-        rules = finalRules;
+        rules = plugin.getGameCache().getRules(type, dungeonConfig, floorConfig);
+        compiledRules = plugin.getGameCache().getCompiledRules(type, dungeonConfig, floorConfig);
+        compiledModCount = rules.modCount;
     }
 
     /**
@@ -327,22 +353,14 @@ public class Game {
      * @return how many mobs have been killed in the game
      */
     public int getGameKills() {
-        int count = 0;
-        for (String killer : gameKills.keySet()) {
-            count += gameKills.get(killer);
-        }
-        return count;
+        return gameKillCount;
     }
 
     /**
      * @return how many mobs have been killed in the last game
      */
     public int getWaveKills() {
-        int count = 0;
-        for (String killer : waveKills.keySet()) {
-            count += waveKills.get(killer);
-        }
-        return count;
+        return waveKillCount;
     }
 
     /**
@@ -354,14 +372,19 @@ public class Game {
             killer = "N/A";
         }
         waveKills.put(killer, waveKills.get(killer) == null ? 1 : waveKills.get(killer) + 1);
+        waveKillCount++;
     }
 
     /**
      * Adds the values of the wave kills map to the game kills map and resets the wave kills.
      */
     public void resetWaveKills() {
-        gameKills.putAll(waveKills);
+        for (Map.Entry<String, Integer> entry : waveKills.entrySet()) {
+            Integer previous = gameKills.put(entry.getKey(), entry.getValue());
+            gameKillCount += entry.getValue() - (previous != null ? previous : 0);
+        }
         waveKills.clear();
+        waveKillCount = 0;
     }
 
     /**
@@ -398,7 +421,7 @@ public class Game {
     public void delete() {
         GameSign gameSign = GameSign.getByGame(this);
 
-        plugin.getGames().remove(this);
+        plugin.getGameCache().remove(this);
 
         if (gameSign != null) {
             gameSign.update();
@@ -415,7 +438,7 @@ public class Game {
         waveCount++;
         resetWaveKills();
 
-        Set<ProgressTrigger> triggers = ProgressTrigger.getByGameWorld(world);
+        List<ProgressTrigger> triggers = ProgressTrigger.getListByGameWorld(world);
         for (ProgressTrigger trigger : triggers) {
             if (getWaveCount() >= trigger.getWaveCount() & getFloorCount() >= trigger.getFloorCount() - 1 || !getUnplayedFloors().contains(trigger.getFloor()) & trigger.getFloor() != null) {
                 trigger.onTrigger();
@@ -460,28 +483,37 @@ public class Game {
     }
 
     /* Statics */
-    public static Game getByDGroup(DGroup dGroup) {
-        for (Game game : DungeonsXL.getInstance().getGames()) {
-            if (game.getDGroups().contains(dGroup)) {
-                return game;
+    /**
+     * Instantiates the resource and creates a game with it as the start floor.
+     *
+     * @param dGroup
+     * the group that starts the game
+     * @param resource
+     * the start floor
+     * @return a future that is completed on the main thread with the new game, or exceptionally if the instantiation failed or if the group was
+     * deleted or joined another game in the meantime
+     */
+    public static CompletableFuture<Game> create(DGroup dGroup, DResourceWorld resource) {
+        return resource.instantiateAsGameWorldAsync().thenApply(world -> {
+            if (!DungeonsXL.getInstance().getDGroups().contains(dGroup) || getByDGroup(dGroup) != null) {
+                world.delete();
+                throw new CancellationException("The group " + dGroup.getName() + " cannot start a game anymore");
             }
-        }
+            world.setType(DGameWorld.Type.START_FLOOR);
+            return new Game(dGroup, world);
+        });
+    }
 
-        return null;
+    public static Game getByDGroup(DGroup dGroup) {
+        return DungeonsXL.getInstance().getGameCache().getByDGroup(dGroup);
     }
 
     public static Game getByPlayer(Player player) {
-        return getByDGroup(DGroup.getByPlayer(player));
+        return DungeonsXL.getInstance().getGameCache().getByUniqueId(player.getUniqueId());
     }
 
     public static Game getByGameWorld(DGameWorld gameWorld) {
-        for (Game game : DungeonsXL.getInstance().getGames()) {
-            if (gameWorld.equals(game.getWorld())) {
-                return game;
-            }
-        }
-
-        return null;
+        return DungeonsXL.getInstance().getGameCache().getByGameWorld(gameWorld);
     }
 
     public static Game getByWorld(World world) {
@@ -493,4 +525,37 @@ public class Game {
         }
     }
 
+    private class DGroupList extends AbstractList<DGroup> {
+
+        @Override
+        public DGroup get(int index) {
+            return dGroups.get(index);
+        }
+
+        @Override
+        public int size() {
+            return dGroups.size();
+        }
+
+        @Override
+        public void add(int index, DGroup dGroup) {
+            addDGroup(index, dGroup);
+        }
+
+        @Override
+        public DGroup remove(int index) {
+            DGroup dGroup = dGroups.get(index);
+            removeDGroup(dGroup);
+            return dGroup;
+        }
+
+        @Override
+        public DGroup set(int index, DGroup dGroup) {
+            // Add first so that the game is not deleted when its only group is replaced
+            add(index, dGroup);
+            return remove(index + 1);
+        }
+
+    }
+
 }
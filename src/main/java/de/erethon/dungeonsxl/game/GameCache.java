@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.game;
+
+import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.dungeon.DungeonConfig;
+import de.erethon.dungeonsxl.player.DGroup;
+import de.erethon.dungeonsxl.world.DGameWorld;
+import de.erethon.dungeonsxl.world.WorldConfig;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Game instance manager.
+ * <p>
+ * Games are indexed by their groups and by their world. The index is kept up to date by {@link Game#addDGroup(DGroup)},
+ * {@link Game#removeDGroup(DGroup)}, {@link Game#setWorld(DGameWorld)} and {@link Game#delete()}.
+ * <p>
+ * The cache also holds the merged and the compiled rules of each combination of game type, dungeon and floor so that new
+ * games do not need to merge the configs again.
+ *
+ * @author agent
+ */
+public class GameCache {
+
+    private List<Game> games = new CopyOnWriteArrayList<>();
+    private Map<DGroup, Game> gamesByDGroup = new ConcurrentHashMap<>();
+    private Map<DGameWorld, Game> gamesByWorld = new ConcurrentHashMap<>();
+
+    private List<Game> gamesView = Collections.unmodifiableList(games);
+
+    // Keyed by the game type and the configs the rules are merged from
+    private Map<List<Object>, GameRuleProvider> mergedRules = new ConcurrentHashMap<>();
+    private Map<List<Object>, CompiledGameRules> compiledRules = new ConcurrentHashMap<>();
+    private WorldConfig mergedDefaults;
+
+    /**
+     * @return a live, unmodifiable view of the games
+     */
+    public List<Game> getGames() {
+        return gamesView;
+    }
+
+    /**
+     * @param dGroup
+     * the group
+     * @return the game the group plays or null if the group is not in a game
+     */
+    public Game getByDGroup(DGroup dGroup) {
+        return dGroup != null ? gamesByDGroup.get(dGroup) : null;
+    }
+
+    /**
+     * @param gameWorld
+     * the game world
+     * @return the game that takes place in the game world or null if there is none
+     */
+    public Game getByGameWorld(DGameWorld gameWorld) {
+        return gameWorld != null ? gamesByWorld.get(gameWorld) : null;
+    }
+
+    /**
+     * @param uuid
+     * the UUID of a player
+     * @return the game the player's group plays or null if the player is not in a game
+     */
+    public Game getByUniqueId(UUID uuid) {
+        return getByDGroup(DungeonsXL.getInstance().getDPlayers().getDGroup(uuid));
+    }
+
+    /**
+     * Returns a copy of the merged rules of the combination that the game may modify. The collections are copied as well, so that changes
+     * do not leak into the rules of other games. The rules are merged with the
+     * following priority:
+     * 1. Game type
+     * 2. Dungeon config: Override values
+     * 3. Floor config
+     * 4. Dungeon config: Default values
+     * 5. Main config: Default values
+     * 6. The default values
+     *
+     * @param type
+     * the game type or null
+     * @param dungeonConfig
+     * the config of the dungeon or null
+     * @param floorConfig
+     * the config of the floor or null
+     * @return the merged rules
+     */
+    public GameRuleProvider getRules(GameType type, DungeonConfig dungeonConfig, WorldConfig floorConfig) {
+        GameRuleProvider rules = new GameRuleProvider();
+        rules.apply(getMergedRules(type, dungeonConfig, floorConfig));
+        rules.copyCollections();
+        return rules;
+    }
+
+    /**
+     * @param type
+     * the game type or null
+     * @param dungeonConfig
+     * the config of the dungeon or null
+     * @param floorConfig
+     * the config of the floor or null
+     * @return the compiled snapshot of the merged rules of the combination
+     */
+    public CompiledGameRules getCompiledRules(GameType type, DungeonConfig dungeonConfig, WorldConfig floorConfig) {
+        List<Object> key = getKey(type, dungeonConfig, floorConfig);
+        CompiledGameRules rules = compiledRules.get(key);
+        if (rules == null) {
+            rules = new CompiledGameRules(getMergedRules(type, dungeonConfig, floorConfig));
+            compiledRules.put(key, rules);
+        }
+        return rules;
+    }
+
+    private List<Object> getKey(GameType type, DungeonConfig dungeonConfig, WorldConfig floorConfig) {
+        WorldConfig defaults = DungeonsXL.getInstance().getMainConfig().getDefaultWorldConfig();
+        if (defaults != mergedDefaults) {
+            // The main config has been reloaded
+            clearRules();
+            mergedDefaults = defaults;
+        }
+        return Arrays.asList(type, dungeonConfig, floorConfig);
+    }
+
+    private GameRuleProvider getMergedRules(GameType type, DungeonConfig dungeonConfig, WorldConfig floorConfig) {
+        List<Object> key = getKey(type, dungeonConfig, floorConfig);
+        GameRuleProvider rules = mergedRules.get(key);
+        if (rules == null) {
+            rules = mergeRules(type, dungeonConfig, floorConfig, mergedDefaults);
+            mergedRules.put(key, rules);
+        }
+        return rules;
+    }
+
+    private GameRuleProvider mergeRules(GameType type, DungeonConfig dungeonConfig, WorldConfig floorConfig, WorldConfig defaults) {
+        GameRuleProvider finalRules = new GameRuleProvider();
+
+        if (type != null) {
+            finalRules.apply(type);
+        }
+
+        if (dungeonConfig != null && dungeonConfig.getOverrideValues() != null) {
+            finalRules.apply(dungeonConfig.getOverrideValues());
+        }
+
+        if (floorConfig != null) {
+            finalRules.apply(floorConfig);
+        }
+
+        if (dungeonConfig != null && dungeonConfig.getDefaultValues() != null) {
+            finalRules.apply(dungeonConfig.getDefaultValues());
+        }
+
+        finalRules.apply(defaults);
+
+        finalRules.apply(GameRuleProvider.DEFAULT_VALUES);
+
+        return finalRules;
+    }
+
+    /**
+     * Removes all merged and compiled rules. Needs to be called when a config the rules are merged from changes.
+     */
+    public void clearRules() {
+        mergedRules.clear();
+        compiledRules.clear();
+    }
+
+    /**
+     * @return the amount of games
+     */
+    public int size() {
+        return games.size();
+    }
+
+    void add(Game game) {
+        games.add(game);
+    }
+
+    void remove(Game game) {
+        games.remove(game);
+        for (DGroup dGroup : game.getDGroups()) {
+            unindexDGroup(game, dGroup);
+        }
+        indexWorld(game, game.getWorld(), null);
+    }
+
+    /* If a key belongs to more than one game, the game that was registered first is returned like it used to be by the linear search. */
+    void indexDGroup(Game game, DGroup dGroup) {
+        gamesByDGroup.putIfAbsent(dGroup, game);
+    }
+
+    void unindexDGroup(Game game, DGroup dGroup) {
+        if (!gamesByDGroup.remove(dGroup, game)) {
+            return;
+        }
+        for (Game other : games) {
+            if (other != game && other.getDGroups().contains(dGroup)) {
+                gamesByDGroup.put(dGroup, other);
+                return;
+            }
+        }
+    }
+
+    void indexWorld(Game game, DGameWorld oldWorld, DGameWorld newWorld) {
+        if (oldWorld != null && gamesByWorld.remove(oldWorld, game)) {
+            for (Game other : games) {
+                if (other != game && other.getWorld() == oldWorld) {
+                    gamesByWorld.put(oldWorld, other);
+                    break;
+                }
+            }
+        }
+        if (newWorld != null) {
+            gamesByWorld.putIfAbsent(newWorld, game);
+        }
+    }
+
+}
@@ -167,6 +167,9 @@ public class GameRuleProvider {
     protected List<ItemStack> secureObjects;
     protected Boolean groupTagEnabled;
 
+    // Incremented whenever values are applied so that games can tell if their compiled rules are outdated
+    int modCount;
+
     /* Getters and setters */
     // keepInventory
     /**
@@ -233,6 +236,24 @@ public class GameRuleProvider {
         return breakWhitelist;
     }
 
+    /**
+     * @param material
+     * the material of the block
+     * @param tool
+     * the material of the item the block is broken with
+     * @return if the break whitelist allows to break the block with the tool; true if there is no whitelist
+     */
+    public boolean isBreakWhitelisted(Material material, Material tool) {
+        if (breakWhitelist == null) {
+            return true;
+        }
+        if (!breakWhitelist.containsKey(material)) {
+            return false;
+        }
+        Set<Material> tools = breakWhitelist.get(material);
+        return tools == null || tools.isEmpty() || tools.contains(tool);
+    }
+
     /**
      * @return a Set of all entity types that cannot be damaged
      */
@@ -261,6 +282,15 @@ public class GameRuleProvider {
         return placeWhitelist;
     }
 
+    /**
+     * @param material
+     * the material of the block
+     * @return if the place whitelist allows to place the block; true if there is no whitelist
+     */
+    public boolean isPlaceWhitelisted(Material material) {
+        return placeWhitelist == null || placeWhitelist.contains(material);
+    }
+
     /**
      * @return
      * if it's raining permanently in this dungeon,
@@ -640,6 +670,8 @@ public class GameRuleProvider {
      * the GameType that overrides the values that are null.
      */
     public void apply(GameType defaultValues) {
+        modCount++;
+
         if (playerVersusPlayer == null) {
             playerVersusPlayer = defaultValues.isPlayerVersusPlayer();
         }
@@ -680,6 +712,8 @@ public class GameRuleProvider {
      * the GameRules that override the values that are null.
      */
     public void apply(GameRuleProvider defaultValues) {
+        modCount++;
+
         /* keepInventory */
         if (keepInventoryOnEnter == null) {
             keepInventoryOnEnter = defaultValues.keepInventoryOnEnter;
@@ -889,4 +923,37 @@ public class GameRuleProvider {
         }
     }
 
+    /**
+     * Replaces the collections with copies so that changes to the collections of these rules do not affect the rules the values have been
+     * applied from.
+     */
+    void copyCollections() {
+        if (breakWhitelist != null) {
+            Map<Material, HashSet<Material>> copy = new HashMap<>();
+            for (Map.Entry<Material, HashSet<Material>> entry : breakWhitelist.entrySet()) {
+                copy.put(entry.getKey(), entry.getValue() != null ? new HashSet<>(entry.getValue()) : null);
+            }
+            breakWhitelist = copy;
+        }
+        damageProtectedEntities = copy(damageProtectedEntities);
+        interactionProtectedEntities = copy(interactionProtectedEntities);
+        placeWhitelist = copy(placeWhitelist);
+        requirements = copy(requirements);
+        finishedOne = copy(finishedOne);
+        finishedAll = copy(finishedAll);
+        rewards = copy(rewards);
+        gameCommandWhitelist = copy(gameCommandWhitelist);
+        gamePermissions = copy(gamePermissions);
+        msgs = msgs != null ? new HashMap<>(msgs) : null;
+        secureObjects = copy(secureObjects);
+    }
+
+    private static <T> Set<T> copy(Set<T> set) {
+        return set != null ? new HashSet<>(set) : null;
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
 }
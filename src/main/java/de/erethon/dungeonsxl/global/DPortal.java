@@ -26,6 +26,7 @@ import de.erethon.dungeonsxl.player.DGlobalPlayer;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
 import java.util.HashSet;
 import java.util.Set;
 import org.bukkit.Location;
@@ -48,6 +49,7 @@ public class DPortal extends GlobalProtection {
     private byte axis;
     private boolean active;
     private Set<Block> blocks;
+    private Set<DGroup> instantiating = new HashSet<>();
 
     public DPortal(int id, World world, boolean active) {
         this(id, world, Material.PORTAL, active);
@@ -83,6 +85,8 @@ public class DPortal extends GlobalProtection {
      */
     public void setBlock1(Block block1) {
         this.block1 = block1;
+        blocks = null;
+        protections.updateProtection(this);
     }
 
     /**
@@ -98,6 +102,8 @@ public class DPortal extends GlobalProtection {
      */
     public void setBlock2(Block block2) {
         this.block2 = block2;
+        blocks = null;
+        protections.updateProtection(this);
     }
 
     /**
@@ -217,8 +223,32 @@ public class DPortal extends GlobalProtection {
         if (target == null && dGroup.getDungeon() != null) {
             DResourceWorld resource = dGroup.getDungeon().getMap();
             if (resource != null) {
-                target = resource.instantiateAsGameWorld();
-                dGroup.setGameWorld(target);
+                if (!instantiating.add(dGroup)) {
+                    return;
+                }
+
+                resource.instantiateAsGameWorldAsync().whenComplete((instance, exception) -> instantiating.remove(dGroup)).thenAccept(instance -> {
+                    if (!player.isOnline() || !DungeonsXL.getInstance().getDGroups().contains(dGroup)) {
+                        instance.delete();
+                        return;
+                    }
+
+                    // Another member of the group might have used a portal while the world was being loaded.
+                    DGameWorld existing = dGroup.getGameWorld();
+                    if (existing != null) {
+                        instance.delete();
+                        teleport(player, dGroup, existing);
+                    } else {
+                        dGroup.setGameWorld(instance);
+                        teleport(player, dGroup, instance);
+                    }
+                }).exceptionally(exception -> {
+                    if (!DWorldCache.isCancellation(exception) && player.isOnline()) {
+                        MessageUtil.sendMessage(player, DMessage.ERROR_INSTANTIATION.getMessage(resource.getName()));
+                    }
+                    return null;
+                });
+                return;
             }
         }
 
@@ -227,6 +257,11 @@ public class DPortal extends GlobalProtection {
             return;
         }
 
+        teleport(player, dGroup, target);
+    }
+
+    private void teleport(Player player, DGroup dGroup, DGameWorld target) {
+        Game game = Game.getByDGroup(dGroup);
         if (game == null) {
             game = new Game(dGroup, target);
 
@@ -244,13 +279,52 @@ public class DPortal extends GlobalProtection {
             if (block1 != null && block2 != null) {
                 blocks = BlockUtil.getBlocksBetween(block1, block2);
             } else {
-                blocks = new HashSet<>();
+                return new HashSet<>();
             }
         }
 
         return blocks;
     }
 
+    @Override
+    public boolean contains(Block block) {
+        if (block1 == null || block2 == null) {
+            return false;
+        }
+
+        int x1 = block1.getX(), y1 = block1.getY(), z1 = block1.getZ();
+        int x2 = block2.getX(), y2 = block2.getY(), z2 = block2.getZ();
+        int x3 = block.getX(), y3 = block.getY(), z3 = block.getZ();
+
+        if (x1 > x2) {
+            if (x3 < x2 || x3 > x1) {
+                return false;
+            }
+
+        } else if (x3 > x2 || x3 < x1) {
+            return false;
+        }
+
+        if (y1 > y2) {
+            if (y3 < y2 || y3 > y1) {
+                return false;
+            }
+
+        } else if (y3 > y2 || y3 < y1) {
+            return false;
+        }
+
+        if (z1 > z2) {
+            if (z3 < z2 || z3 > z1) {
+                return false;
+            }
+        } else if (z3 > z2 || z3 < z1) {
+            return false;
+        }
+
+        return true;
+    }
+
     @Override
     public void save(FileConfiguration configFile) {
         if (!active) {
@@ -339,46 +413,7 @@ public class DPortal extends GlobalProtection {
      * a block covered by the returned portal
      */
     public static DPortal getByBlock(Block block) {
-        for (GlobalProtection protection : DungeonsXL.getInstance().getGlobalProtections().getProtections(DPortal.class)) {
-            DPortal portal = (DPortal) protection;
-            if (portal.getBlock1() == null || portal.getBlock2() == null) {
-                continue;
-            }
-
-            int x1 = portal.block1.getX(), y1 = portal.block1.getY(), z1 = portal.block1.getZ();
-            int x2 = portal.block2.getX(), y2 = portal.block2.getY(), z2 = portal.block2.getZ();
-            int x3 = block.getX(), y3 = block.getY(), z3 = block.getZ();
-
-            if (x1 > x2) {
-                if (x3 < x2 || x3 > x1) {
-                    continue;
-                }
-
-            } else if (x3 > x2 || x3 < x1) {
-                continue;
-            }
-
-            if (y1 > y2) {
-                if (y3 < y2 || y3 > y1) {
-                    continue;
-                }
-
-            } else if (y3 > y2 || y3 < y1) {
-                continue;
-            }
-
-            if (z1 > z2) {
-                if (z3 < z2 || z3 > z1) {
-                    continue;
-                }
-            } else if (z3 > z2 || z3 < z1) {
-                continue;
-            }
-
-            return portal;
-        }
-
-        return null;
+        return DungeonsXL.getInstance().getGlobalProtections().getByBlock(block, DPortal.class);
     }
 
 }
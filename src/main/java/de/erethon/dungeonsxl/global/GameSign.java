@@ -25,7 +25,9 @@ import de.erethon.dungeonsxl.game.Game;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.util.LegacyUtil;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.bukkit.Material;
@@ -121,68 +123,38 @@ public class GameSign extends GlobalProtection {
      * Update this game sign to show the game(s) correctly.
      */
     public void update() {
+        SignRenderer renderer = protections.getSignRenderer();
+        List<String> lines = new ArrayList<>();
+
         int i = 0;
         for (Game game : games) {
-            if (!(startSign.getRelative(i * directionX, 0, i * directionZ).getState() instanceof Sign)) {
-                i++;
+            Block column = startSign.getRelative(i * directionX, 0, i * directionZ);
+            i++;
+            if (!LegacyUtil.isSign(column)) {
                 continue;
             }
 
-            Sign sign = (Sign) startSign.getRelative(i * directionX, 0, i * directionZ).getState();
-
-            // Reset Signs
-            sign.setLine(0, "");
-            sign.setLine(1, "");
-            sign.setLine(2, "");
-            sign.setLine(3, "");
-
-            int yy = -1;
-            while (sign.getBlock().getRelative(0, yy, 0).getState() instanceof Sign) {
-                Sign subsign = (Sign) sign.getBlock().getRelative(0, yy, 0).getState();
-                subsign.setLine(0, "");
-                subsign.setLine(1, "");
-                subsign.setLine(2, "");
-                subsign.setLine(3, "");
-                subsign.update();
-                yy--;
-            }
-
-            // Set Signs
+            lines.clear();
             if (game != null && game.getDGroups().size() > 0) {
                 if (game.getDGroups().get(0).isPlaying()) {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_IS_PLAYING.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_IS_PLAYING.getMessage());
 
                 } else if (game.getDGroups().size() >= maxGroupsPerGame) {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_FULL.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_FULL.getMessage());
 
                 } else {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_JOIN_GAME.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_JOIN_GAME.getMessage());
                 }
 
-                int j = 1;
-                Sign rowSign = sign;
-
                 for (DGroup dGroup : game.getDGroups()) {
-                    if (j > 3) {
-                        j = 0;
-                        rowSign = (Sign) sign.getBlock().getRelative(0, -1, 0).getState();
-                    }
-
-                    if (rowSign != null) {
-                        rowSign.setLine(j, dGroup.getName());
-                    }
-
-                    j++;
-                    rowSign.update();
+                    lines.add(dGroup.getName());
                 }
 
             } else {
-                sign.setLine(0, DMessage.SIGN_GLOBAL_NEW_GAME.getMessage());
+                lines.add(DMessage.SIGN_GLOBAL_NEW_GAME.getMessage());
             }
 
-            sign.update();
-
-            i++;
+            renderer.renderColumn(column, lines);
         }
     }
 
@@ -459,15 +431,17 @@ public class GameSign extends GlobalProtection {
             return true;
         }
 
-        Sign topSign = (Sign) topBlock.getState();
+        // The renderer knows about text that has not been flushed yet
+        String[] lines = gameSign.protections.getSignRenderer().getLines(topBlock);
+        String status = lines != null ? lines[0] : ((Sign) topBlock.getState()).getLine(0);
 
-        if (topSign.getLine(0).equals(DMessage.SIGN_GLOBAL_NEW_GAME.getMessage())) {
+        if (status.equals(DMessage.SIGN_GLOBAL_NEW_GAME.getMessage())) {
             Game game = new Game(dGroup);
             dGroup.setDungeon(gameSign.dungeon);
             gameSign.games[column] = game;
             gameSign.update();
 
-        } else if (topSign.getLine(0).equals(DMessage.SIGN_GLOBAL_JOIN_GAME.getMessage())) {
+        } else if (status.equals(DMessage.SIGN_GLOBAL_JOIN_GAME.getMessage())) {
             gameSign.games[column].addDGroup(dGroup);
             gameSign.update();
         }
@@ -58,6 +58,7 @@ public abstract class GlobalProtection {
      */
     public void setWorld(World world) {
         this.world = world;
+        protections.updateProtection(this);
     }
 
     /**
@@ -67,6 +68,15 @@ public abstract class GlobalProtection {
         return id;
     }
 
+    /**
+     * @param block
+     * the block to check
+     * @return if the block is covered by this protection
+     */
+    public boolean contains(Block block) {
+        return getBlocks().contains(block);
+    }
+
     /* Actions */
     /**
      * Delete this protection.
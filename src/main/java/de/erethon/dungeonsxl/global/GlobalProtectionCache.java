@@ -17,9 +17,16 @@
 package de.erethon.dungeonsxl.global;
 
 import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.util.LongHashMap;
+import de.erethon.dungeonsxl.util.PositionUtil;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -37,9 +44,18 @@ public class GlobalProtectionCache {
     DungeonsXL plugin = DungeonsXL.getInstance();
 
     private Set<GlobalProtection> protections = new HashSet<>();
+    private SignRenderer signRenderer = new SignRenderer(plugin);
+
+    /* Spatial index: world UID -> chunk key -> protections that cover blocks in the chunk */
+    private Map<UUID, LongHashMap<List<GlobalProtection>>> index = new HashMap<>();
+    private Map<GlobalProtection, long[]> indexedChunks = new HashMap<>();
+    /* Protections are indexed lazily because their blocks are not known before their constructor has finished */
+    private Set<GlobalProtection> unindexed = new HashSet<>();
 
     public GlobalProtectionCache() {
-        Bukkit.getPluginManager().registerEvents(new GlobalProtectionListener(), plugin);
+        GlobalProtectionListener listener = new GlobalProtectionListener();
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+        plugin.getMoveDispatcher().register("Portals", listener);
     }
 
     /**
@@ -53,8 +69,14 @@ public class GlobalProtectionCache {
      * @return the protection which covers this block
      */
     public GlobalProtection getByBlock(Block block) {
-        for (GlobalProtection protection : protections) {
-            if (protection.getBlocks().contains(block)) {
+        List<GlobalProtection> candidates = getCandidates(block);
+        if (candidates == null) {
+            return null;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            GlobalProtection protection = candidates.get(i);
+            if (protection.contains(block)) {
                 return protection;
             }
         }
@@ -62,6 +84,36 @@ public class GlobalProtectionCache {
         return null;
     }
 
+    /**
+     * @param block
+     * the block to check
+     * @param type
+     * the exact class of the returned protection
+     * @return the protection of the given type which covers this block
+     */
+    public <T extends GlobalProtection> T getByBlock(Block block, Class<T> type) {
+        List<GlobalProtection> candidates = getCandidates(block);
+        if (candidates == null) {
+            return null;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            GlobalProtection protection = candidates.get(i);
+            if (protection.getClass() == type && protection.contains(block)) {
+                return type.cast(protection);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the renderer that updates the text of global signs
+     */
+    public SignRenderer getSignRenderer() {
+        return signRenderer;
+    }
+
     /**
      * @return the protections
      */
@@ -89,6 +141,7 @@ public class GlobalProtectionCache {
      */
     public void addProtection(GlobalProtection protection) {
         protections.add(protection);
+        unindexed.add(protection);
     }
 
     /**
@@ -97,6 +150,23 @@ public class GlobalProtectionCache {
      */
     public void removeProtection(GlobalProtection protection) {
         protections.remove(protection);
+        unindex(protection);
+        for (Block block : protection.getBlocks()) {
+            signRenderer.forget(block);
+        }
+    }
+
+    /**
+     * Re-indexes the protection. Needs to be called when the blocks a protection covers change.
+     *
+     * @param protection
+     * the protection to update
+     */
+    public void updateProtection(GlobalProtection protection) {
+        unindex(protection);
+        if (protections.contains(protection)) {
+            unindexed.add(protection);
+        }
     }
 
     /**
@@ -149,13 +219,82 @@ public class GlobalProtectionCache {
      * the block to check
      */
     public boolean isProtectedBlock(Block block) {
-        for (GlobalProtection protection : protections) {
-            if (protection.getBlocks().contains(block)) {
-                return true;
+        return getByBlock(block) != null;
+    }
+
+    /* Index */
+    private List<GlobalProtection> getCandidates(Block block) {
+        if (!unindexed.isEmpty()) {
+            indexPending();
+        }
+
+        LongHashMap<List<GlobalProtection>> chunks = index.get(block.getWorld().getUID());
+        if (chunks == null) {
+            return null;
+        }
+        return chunks.get(PositionUtil.getChunkKey(block));
+    }
+
+    private void indexPending() {
+        for (GlobalProtection protection : unindexed) {
+            index(protection);
+        }
+        unindexed.clear();
+    }
+
+    private void index(GlobalProtection protection) {
+        World world = protection.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        Set<Long> keys = new HashSet<>();
+        for (Block block : protection.getBlocks()) {
+            keys.add(PositionUtil.getChunkKey(block));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        LongHashMap<List<GlobalProtection>> chunks = index.get(world.getUID());
+        if (chunks == null) {
+            chunks = new LongHashMap<>();
+            index.put(world.getUID(), chunks);
+        }
+
+        long[] indexed = new long[keys.size()];
+        int i = 0;
+        for (long key : keys) {
+            List<GlobalProtection> bucket = chunks.get(key);
+            if (bucket == null) {
+                bucket = new ArrayList<>(2);
+                chunks.put(key, bucket);
             }
+            bucket.add(protection);
+            indexed[i++] = key;
+        }
+        indexedChunks.put(protection, indexed);
+    }
+
+    private void unindex(GlobalProtection protection) {
+        unindexed.remove(protection);
+
+        long[] indexed = indexedChunks.remove(protection);
+        if (indexed == null) {
+            return;
         }
 
-        return false;
+        for (LongHashMap<List<GlobalProtection>> chunks : index.values()) {
+            for (long key : indexed) {
+                List<GlobalProtection> bucket = chunks.get(key);
+                if (bucket == null || !bucket.remove(protection)) {
+                    continue;
+                }
+                if (bucket.isEmpty()) {
+                    chunks.remove(key);
+                }
+            }
+        }
     }
 
     /* SUBJECT TO CHANGE */
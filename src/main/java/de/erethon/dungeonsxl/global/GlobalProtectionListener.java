@@ -19,11 +19,14 @@ package de.erethon.dungeonsxl.global;
 import de.erethon.commons.misc.NumberUtil;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
+import de.erethon.dungeonsxl.player.BlockEnterHandler;
 import de.erethon.dungeonsxl.player.DGlobalPlayer;
 import de.erethon.dungeonsxl.player.DPermission;
 import de.erethon.dungeonsxl.util.LegacyUtil;
 import de.erethon.dungeonsxl.world.DEditWorld;
+import de.erethon.dungeonsxl.world.DInstanceWorld;
 import java.util.List;
+import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.Sign;
@@ -39,14 +42,13 @@ import org.bukkit.event.block.SignChangeEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.inventory.ItemStack;
 
 /**
  * @author Daniel Saukel, Wooyoung Son, Frank Baumann, Milan Albrecht
  */
-public class GlobalProtectionListener implements Listener {
+public class GlobalProtectionListener implements Listener, BlockEnterHandler {
 
     DungeonsXL plugin = DungeonsXL.getInstance();
 
@@ -129,21 +131,12 @@ public class GlobalProtectionListener implements Listener {
         }
     }
 
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
+    @Override
+    public void onBlockEnter(Player player, DGlobalPlayer dPlayer, DInstanceWorld instance, Location to) {
         DPortal dPortal = DPortal.getByLocation(player.getEyeLocation());
-        if (dPortal == null) {
-            return;
+        if (dPortal != null) {
+            dPortal.teleport(player);
         }
-
-        Block blockFrom = event.getFrom().getBlock();
-        Block blockTo = event.getTo().getBlock();
-        if (blockFrom.equals(blockTo)) {
-            return;
-        }
-
-        dPortal.teleport(player);
     }
 
     @EventHandler
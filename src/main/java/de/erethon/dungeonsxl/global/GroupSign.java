@@ -24,7 +24,9 @@ import de.erethon.dungeonsxl.dungeon.Dungeon;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.util.LegacyUtil;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.bukkit.Material;
@@ -120,68 +122,38 @@ public class GroupSign extends GlobalProtection {
      * Update this group sign to show the group(s) correctly.
      */
     public void update() {
+        SignRenderer renderer = protections.getSignRenderer();
+        List<String> lines = new ArrayList<>();
+
         int i = 0;
         for (DGroup dGroup : dGroups) {
-            if (!(startSign.getRelative(i * directionX, 0, i * directionZ).getState() instanceof Sign)) {
-                i++;
+            Block column = startSign.getRelative(i * directionX, 0, i * directionZ);
+            i++;
+            if (!LegacyUtil.isSign(column)) {
                 continue;
             }
 
-            Sign sign = (Sign) startSign.getRelative(i * directionX, 0, i * directionZ).getState();
-
-            // Reset Signs
-            sign.setLine(0, "");
-            sign.setLine(1, "");
-            sign.setLine(2, "");
-            sign.setLine(3, "");
-
-            int yy = -1;
-            while (sign.getBlock().getRelative(0, yy, 0).getState() instanceof Sign) {
-                Sign subsign = (Sign) sign.getBlock().getRelative(0, yy, 0).getState();
-                subsign.setLine(0, "");
-                subsign.setLine(1, "");
-                subsign.setLine(2, "");
-                subsign.setLine(3, "");
-                subsign.update();
-                yy--;
-            }
-
-            // Set Signs
+            lines.clear();
             if (dGroup != null) {
                 if (dGroup.isPlaying()) {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_IS_PLAYING.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_IS_PLAYING.getMessage());
 
                 } else if (dGroup.getPlayers().size() >= maxPlayersPerGroup) {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_FULL.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_FULL.getMessage());
 
                 } else {
-                    sign.setLine(0, DMessage.SIGN_GLOBAL_JOIN_GROUP.getMessage());
+                    lines.add(DMessage.SIGN_GLOBAL_JOIN_GROUP.getMessage());
                 }
 
-                int j = 1;
-                Sign rowSign = sign;
-
                 for (Player player : dGroup.getPlayers().getOnlinePlayers()) {
-                    if (j > 3) {
-                        j = 0;
-                        rowSign = (Sign) sign.getBlock().getRelative(0, -1, 0).getState();
-                    }
-
-                    if (rowSign != null) {
-                        rowSign.setLine(j, player.getName());
-                    }
-
-                    j++;
-                    rowSign.update();
+                    lines.add(player.getName());
                 }
 
             } else {
-                sign.setLine(0, DMessage.SIGN_GLOBAL_NEW_GROUP.getMessage());
+                lines.add(DMessage.SIGN_GLOBAL_NEW_GROUP.getMessage());
             }
 
-            sign.update();
-
-            i++;
+            renderer.renderColumn(column, lines);
         }
     }
 
@@ -423,13 +395,15 @@ public class GroupSign extends GlobalProtection {
             return true;
         }
 
-        Sign topSign = (Sign) topBlock.getState();
+        // The renderer knows about text that has not been flushed yet
+        String[] lines = groupSign.protections.getSignRenderer().getLines(topBlock);
+        String status = lines != null ? lines[0] : ((Sign) topBlock.getState()).getLine(0);
 
-        if (topSign.getLine(0).equals(DMessage.SIGN_GLOBAL_NEW_GROUP.getMessage())) {
+        if (status.equals(DMessage.SIGN_GLOBAL_NEW_GROUP.getMessage())) {
             groupSign.dGroups[column] = new DGroup(player, groupSign.dungeon);
             groupSign.update();
 
-        } else if (topSign.getLine(0).equals(DMessage.SIGN_GLOBAL_JOIN_GROUP.getMessage())) {
+        } else if (status.equals(DMessage.SIGN_GLOBAL_JOIN_GROUP.getMessage())) {
             groupSign.dGroups[column].addPlayer(player);
             groupSign.update();
         }
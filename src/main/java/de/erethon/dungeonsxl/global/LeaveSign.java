@@ -98,15 +98,7 @@ public class LeaveSign extends GlobalProtection {
      * a block which is protected by the returned LeaveSign
      */
     public static LeaveSign getByBlock(Block block) {
-        for (GlobalProtection protection : DungeonsXL.getInstance().getGlobalProtections().getProtections(LeaveSign.class)) {
-            LeaveSign leaveSign = (LeaveSign) protection;
-
-            if (leaveSign.getBlocks().contains(block)) {
-                return leaveSign;
-            }
-        }
-
-        return null;
+        return DungeonsXL.getInstance().getGlobalProtections().getByBlock(block, LeaveSign.class);
     }
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.global;
+
+import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.util.LegacyUtil;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Sign;
+
+/**
+ * Renders the text of global signs.
+ * <p>
+ * The desired text of a sign is compared to the text that has been rendered last. Changed signs are collected and flushed once per tick, so that
+ * multiple updates of the same sign within one tick only cause one block update.
+ *
+ * @author agent
+ */
+public class SignRenderer implements Runnable {
+
+    public static final int LINES = 4;
+
+    DungeonsXL plugin;
+
+    private Map<Block, String[]> rendered = new HashMap<>();
+    private Map<Block, String[]> pending = new LinkedHashMap<>();
+    private boolean scheduled;
+
+    public SignRenderer(DungeonsXL plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @param block
+     * the sign block
+     * @return the lines that have been rendered last or are about to be rendered; null if the block has not been rendered yet
+     */
+    public String[] getLines(Block block) {
+        String[] lines = pending.get(block);
+        return lines != null ? lines : rendered.get(block);
+    }
+
+    /**
+     * Queues the lines to be rendered on the sign at the end of the tick if they differ from the current text.
+     *
+     * @param block
+     * the sign block
+     * @param lines
+     * the lines to render; missing lines are rendered empty
+     */
+    public void render(Block block, String... lines) {
+        String[] text = new String[LINES];
+        for (int i = 0; i < LINES; i++) {
+            text[i] = i < lines.length && lines[i] != null ? lines[i] : "";
+        }
+
+        if (Arrays.equals(text, rendered.get(block))) {
+            pending.remove(block);
+            return;
+        }
+
+        pending.put(block, text);
+        if (!scheduled) {
+            scheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this);
+        }
+    }
+
+    /**
+     * Renders the lines on the column of signs that starts at the block and continues downwards as long as there are signs. Lines that do not fit
+     * on the column are dropped.
+     *
+     * @param top
+     * the uppermost sign block of the column
+     * @param lines
+     * the lines to render, four per sign
+     */
+    public void renderColumn(Block top, List<String> lines) {
+        int row = 0;
+        Block block = top;
+        while (LegacyUtil.isSign(block)) {
+            int from = Math.min(row * LINES, lines.size());
+            int to = Math.min(from + LINES, lines.size());
+            render(block, lines.subList(from, to).toArray(new String[to - from]));
+            block = block.getRelative(0, -1, 0);
+            row++;
+        }
+    }
+
+    /**
+     * Forgets the rendered state of the block, e.g. because it does not belong to a global sign anymore.
+     *
+     * @param block
+     * the sign block
+     */
+    public void forget(Block block) {
+        rendered.remove(block);
+        pending.remove(block);
+    }
+
+    /**
+     * Updates all signs whose text has changed since the last flush.
+     */
+    public void flush() {
+        scheduled = false;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<Block, String[]> entry : pending.entrySet()) {
+            Block block = entry.getKey();
+            String[] text = entry.getValue();
+
+            BlockState state = block.getState();
+            if (!(state instanceof Sign)) {
+                rendered.remove(block);
+                continue;
+            }
+
+            Sign sign = (Sign) state;
+            if (!Arrays.equals(text, sign.getLines())) {
+                for (int i = 0; i < LINES; i++) {
+                    sign.setLine(i, text[i]);
+                }
+                sign.update();
+            }
+            rendered.put(block, text);
+        }
+        pending.clear();
+    }
+
+    @Override
+    public void run() {
+        flush();
+    }
+
+}
@@ -18,12 +18,11 @@ package de.erethon.dungeonsxl.mob;
 
 import de.erethon.dungeonsxl.event.dmob.DMobDeathEvent;
 import de.erethon.dungeonsxl.event.dmob.DMobSpawnEvent;
-import de.erethon.dungeonsxl.game.Game;
 import de.erethon.dungeonsxl.trigger.MobTrigger;
 import de.erethon.dungeonsxl.trigger.WaveTrigger;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import java.util.List;
 import java.util.Random;
-import java.util.Set;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -42,11 +41,11 @@ public class DMob {
     private String trigger;
 
     public DMob(LivingEntity entity, DGameWorld gameWorld, DMobType type) {
-        gameWorld.addDMob(this);
-
         this.entity = entity;
         this.type = type;
 
+        gameWorld.addDMob(this);
+
         /* Remove DropChance of equipment */
         if (!isExternalMob()) {
             this.entity.getEquipment().setHelmetDropChance(0);
@@ -141,10 +140,14 @@ public class DMob {
             mobTrigger.onTrigger();
         }
 
-        Set<WaveTrigger> waveTriggers = WaveTrigger.getByGameWorld(gameWorld);
-        for (WaveTrigger waveTrigger : waveTriggers) {
-            if (Game.getByGameWorld(gameWorld).getWaveKills() >= Math.ceil(gameWorld.getMobCount() * waveTrigger.getMustKillRate())) {
-                waveTrigger.onTrigger();
+        List<WaveTrigger> waveTriggers = WaveTrigger.getListByGameWorld(gameWorld);
+        if (!waveTriggers.isEmpty()) {
+            int waveKills = gameWorld.getGame().getWaveKills();
+            int mobCount = gameWorld.getMobCount();
+            for (WaveTrigger waveTrigger : waveTriggers) {
+                if (waveKills >= Math.ceil(mobCount * waveTrigger.getMustKillRate())) {
+                    waveTrigger.onTrigger();
+                }
             }
         }
 
@@ -154,14 +157,11 @@ public class DMob {
     /* Statics */
     public static DMob getByEntity(Entity entity) {
         DGameWorld gameWorld = DGameWorld.getByWorld(entity.getWorld());
-
-        for (DMob dMob : gameWorld.getDMobs()) {
-            if (dMob.entity == entity) {
-                return dMob;
-            }
+        if (gameWorld == null) {
+            return null;
         }
 
-        return null;
+        return gameWorld.getDMob(entity);
     }
 
 }
@@ -59,7 +59,7 @@ public class DMobListener implements Listener {
             DGameWorld gameWorld = DGameWorld.getByWorld(world);
             if (gameWorld != null) {
                 if (gameWorld.isPlaying()) {
-                    DMob dMob = DMob.getByEntity(entity);
+                    DMob dMob = gameWorld.getDMob(entity);
                     if (dMob != null) {
                         dMob.onDeath(event);
                     }
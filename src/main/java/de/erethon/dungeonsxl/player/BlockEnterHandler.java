@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.player;
+
+import de.erethon.dungeonsxl.world.DInstanceWorld;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Reacts to players who move into another block.
+ * <p>
+ * Handlers are registered at the {@link BlockMoveDispatcher}, which filters out movements inside of a block and resolves the player's
+ * DungeonsXL context once for all handlers.
+ *
+ * @author agent
+ */
+public interface BlockEnterHandler {
+
+    /**
+     * @param player
+     * the player who moves
+     * @param dPlayer
+     * the DGlobalPlayer that represents the player
+     * @param instance
+     * the instance the player moves in or null if the player is not in an instance
+     * @param to
+     * the location the player moves to
+     */
+    void onBlockEnter(Player player, DGlobalPlayer dPlayer, DInstanceWorld instance, Location to);
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.player;
+
+import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.world.DInstanceWorld;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * Dispatches player movements to the registered {@link BlockEnterHandler}s.
+ * <p>
+ * Movements that do not change the block coordinates are filtered out with integer comparisons before anything else is done. The time
+ * each handler takes is counted so that expensive handlers can be spotted with the status command.
+ *
+ * @author agent
+ */
+public class BlockMoveDispatcher implements Listener {
+
+    private DungeonsXL plugin;
+
+    private Registration[] registrations = new Registration[0];
+
+    private long moves;
+    private long transitions;
+
+    public BlockMoveDispatcher(DungeonsXL plugin) {
+        this.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * @param name
+     * the name that is shown in the timings
+     * @param handler
+     * the handler to register
+     */
+    public void register(String name, BlockEnterHandler handler) {
+        Registration[] registrations = Arrays.copyOf(this.registrations, this.registrations.length + 1);
+        registrations[registrations.length - 1] = new Registration(name, handler);
+        this.registrations = registrations;
+    }
+
+    /**
+     * @param handler
+     * the handler to unregister
+     */
+    public void unregister(BlockEnterHandler handler) {
+        Registration[] registrations = this.registrations;
+        for (int i = 0; i < registrations.length; i++) {
+            if (registrations[i].handler == handler) {
+                Registration[] remaining = new Registration[registrations.length - 1];
+                System.arraycopy(registrations, 0, remaining, 0, i);
+                System.arraycopy(registrations, i + 1, remaining, i, remaining.length - i);
+                this.registrations = remaining;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the registered handlers and their timings
+     */
+    public List<Registration> getRegistrations() {
+        return Collections.unmodifiableList(Arrays.asList(registrations));
+    }
+
+    /**
+     * @return the amount of movements the dispatcher has received
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * @return the amount of movements that changed the block and were dispatched to the handlers
+     */
+    public long getTransitions() {
+        return transitions;
+    }
+
+    /**
+     * Resets the timings of all handlers.
+     */
+    public void resetTimings() {
+        moves = 0;
+        transitions = 0;
+        for (Registration registration : registrations) {
+            registration.calls = 0;
+            registration.time = 0;
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        moves++;
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()
+                && from.getWorld() == to.getWorld())) {
+            return;
+        }
+
+        Player player = event.getPlayer();
+        if (DPlayerListener.isCitizensNPC(player)) {
+            return;
+        }
+        transitions++;
+
+        DGlobalPlayer dPlayer = plugin.getDPlayers().getByPlayer(player);
+        DInstanceWorld instance = plugin.getDWorlds().getInstanceByWorld(to.getWorld());
+        for (Registration registration : registrations) {
+            long start = System.nanoTime();
+            registration.handler.onBlockEnter(player, dPlayer, instance, to);
+            registration.time += System.nanoTime() - start;
+            registration.calls++;
+        }
+    }
+
+    /**
+     * A registered handler and its timings.
+     */
+    public static class Registration {
+
+        private String name;
+        private BlockEnterHandler handler;
+
+        private long calls;
+        private long time;
+
+        Registration(String name, BlockEnterHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        /**
+         * @return the name of the handler
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the handler
+         */
+        public BlockEnterHandler getHandler() {
+            return handler;
+        }
+
+        /**
+         * @return how often the handler was called
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the total time the handler took in nanoseconds
+         */
+        public long getTime() {
+            return time;
+        }
+
+        /**
+         * @return the average time one call took in nanoseconds
+         */
+        public long getAverageTime() {
+            return calls != 0 ? time / calls : 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.player;
+
+import de.erethon.commons.chat.MessageUtil;
+import de.erethon.dungeonsxl.DungeonsXL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+/**
+ * Routes the group chat messages that are sent from the asynchronous chat thread.
+ * <p>
+ * The group memberships and chat modes of the players are published as an immutable snapshot from the main thread, so that the chat thread does
+ * not need to access the mutable player and group objects.
+ *
+ * @author agent
+ */
+public class ChatRouter implements Runnable {
+
+    DungeonsXL plugin;
+    private DPlayerCache dPlayers;
+
+    private volatile Map<UUID, Route> routes = Collections.emptyMap();
+    private boolean scheduled;
+
+    public ChatRouter(DungeonsXL plugin, DPlayerCache dPlayers) {
+        this.plugin = plugin;
+        this.dPlayers = dPlayers;
+    }
+
+    /**
+     * @param uuid
+     * the UUID of the player
+     * @return the route of the player's group chat messages; null if the player is not in group chat or not in a group
+     */
+    public Route getRoute(UUID uuid) {
+        return routes.get(uuid);
+    }
+
+    /**
+     * Marks the snapshot as outdated. It will be rebuilt on the main thread at the next tick.
+     */
+    public void invalidate() {
+        if (scheduled || !plugin.isEnabled()) {
+            return;
+        }
+        scheduled = true;
+        Bukkit.getScheduler().runTask(plugin, this);
+    }
+
+    /**
+     * Rebuilds and publishes the snapshot. Must be called from the main thread.
+     */
+    public void update() {
+        scheduled = false;
+
+        Map<UUID, Route> routes = new HashMap<>();
+        Map<DGroup, List<Player>> recipients = new HashMap<>();
+        for (DGlobalPlayer dPlayer : dPlayers.getDGlobalPlayerView()) {
+            if (!dPlayer.isInGroupChat()) {
+                continue;
+            }
+            DGroup dGroup = dPlayers.getDGroup(dPlayer.getUniqueId());
+            if (dGroup == null) {
+                continue;
+            }
+
+            List<Player> groupRecipients = recipients.get(dGroup);
+            if (groupRecipients == null) {
+                groupRecipients = Collections.unmodifiableList(new ArrayList<>(dGroup.getPlayers().getOnlinePlayers()));
+                recipients.put(dGroup, groupRecipients);
+            }
+
+            String prefix = plugin.getMainConfig().getCompiledChatFormatGroup().format(dPlayer.getName(), dGroup);
+            routes.put(dPlayer.getUniqueId(), new Route(prefix, groupRecipients, dPlayer instanceof DInstancePlayer));
+        }
+
+        this.routes = Collections.unmodifiableMap(routes);
+    }
+
+    @Override
+    public void run() {
+        update();
+    }
+
+    /**
+     * An immutable description of where the group chat messages of a player go.
+     */
+    public static class Route {
+
+        private final String prefix;
+        private final List<Player> recipients;
+        private final boolean instancePlayer;
+
+        Route(String prefix, List<Player> recipients, boolean instancePlayer) {
+            this.prefix = prefix;
+            this.recipients = recipients;
+            this.instancePlayer = instancePlayer;
+        }
+
+        /**
+         * @return the formatted group chat prefix of the player
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * @return the online members of the player's group
+         */
+        public List<Player> getRecipients() {
+            return recipients;
+        }
+
+        /**
+         * @return if the player is in a dungeon instance
+         */
+        public boolean isInstancePlayer() {
+            return instancePlayer;
+        }
+
+        /**
+         * @param message
+         * the message to send to the group
+         */
+        public void sendToGroup(String message) {
+            String formatted = prefix + message;
+            for (Player player : recipients) {
+                if (player.isOnline()) {
+                    MessageUtil.sendMessage(player, formatted);
+                }
+            }
+        }
+
+    }
+
+}
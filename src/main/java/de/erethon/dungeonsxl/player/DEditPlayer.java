@@ -200,27 +200,19 @@ public class DEditPlayer extends DInstancePlayer {
 
     /* Statics */
     public static DEditPlayer getByPlayer(Player player) {
-        for (DEditPlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDEditPlayers()) {
-            if (dPlayer.getPlayer().equals(player)) {
-                return dPlayer;
-            }
-        }
-        return null;
+        DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByUniqueId(player.getUniqueId());
+        return dPlayer instanceof DEditPlayer ? (DEditPlayer) dPlayer : null;
     }
 
     public static DEditPlayer getByName(String name) {
-        for (DEditPlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDEditPlayers()) {
-            if (dPlayer.getName().equalsIgnoreCase(name)) {
-                return dPlayer;
-            }
-        }
-        return null;
+        DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByName(name);
+        return dPlayer instanceof DEditPlayer ? (DEditPlayer) dPlayer : null;
     }
 
     public static CopyOnWriteArrayList<DEditPlayer> getByWorld(World world) {
         CopyOnWriteArrayList<DEditPlayer> dPlayers = new CopyOnWriteArrayList<>();
 
-        for (DEditPlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDEditPlayers()) {
+        for (DEditPlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDEditPlayerView()) {
             if (dPlayer.getWorld() == world) {
                 dPlayers.add(dPlayer);
             }
@@ -954,7 +954,7 @@ public class DGamePlayer extends DInstancePlayer {
                     wolfRespawnTime--;
                 }
 
-                DMob dMob = DMob.getByEntity(getWolf());
+                DMob dMob = gameWorld.getDMob(getWolf());
                 if (dMob != null) {
                     gameWorld.removeDMob(dMob);
                 }
@@ -1007,28 +1007,19 @@ public class DGamePlayer extends DInstancePlayer {
 
     /* Statics */
     public static DGamePlayer getByPlayer(Player player) {
-        for (DGamePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGamePlayers()) {
-            if (dPlayer.getPlayer().equals(player)) {
-                return dPlayer;
-            }
-        }
-        return null;
+        DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByUniqueId(player.getUniqueId());
+        return dPlayer instanceof DGamePlayer ? (DGamePlayer) dPlayer : null;
     }
 
     public static DGamePlayer getByName(String name) {
-        for (DGamePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGamePlayers()) {
-            if (dPlayer.getPlayer().getName().equalsIgnoreCase(name) || dPlayer.getName().equalsIgnoreCase(name)) {
-                return dPlayer;
-            }
-        }
-
-        return null;
+        DGlobalPlayer dPlayer = DungeonsXL.getInstance().getDPlayers().getByName(name);
+        return dPlayer instanceof DGamePlayer ? (DGamePlayer) dPlayer : null;
     }
 
     public static List<DGamePlayer> getByWorld(World world) {
         List<DGamePlayer> dPlayers = new ArrayList<>();
 
-        for (DGamePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGamePlayers()) {
+        for (DGamePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGamePlayerView()) {
             if (dPlayer.getWorld() == world) {
                 dPlayers.add(dPlayer);
             }
@@ -26,8 +26,8 @@ import de.erethon.dungeonsxl.config.DMessage;
 import de.erethon.dungeonsxl.event.dgroup.DGroupCreateEvent;
 import de.erethon.dungeonsxl.game.Game;
 import de.erethon.dungeonsxl.global.DPortal;
-import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
 import java.io.File;
 import java.util.List;
 import java.util.UUID;
@@ -151,6 +151,7 @@ public class DGlobalPlayer implements PlayerWrapper {
      */
     public void setInGroupChat(boolean groupChat) {
         this.groupChat = groupChat;
+        plugin.getDPlayers().getChatRouter().invalidate();
     }
 
     /**
@@ -393,21 +394,29 @@ public class DGlobalPlayer implements PlayerWrapper {
             return;
         }
 
-        DGameWorld gameWorld = null;
+        DResourceWorld resource = plugin.getDWorlds().getResourceByName(dGroup.getMapName());
+        if (resource == null) {
+            MessageUtil.sendMessage(player, DMessage.ERROR_TUTORIAL_NOT_EXIST.getMessage());
+            return;
+        }
 
-        if (dGroup.getGameWorld() == null) {
-            DResourceWorld resource = plugin.getDWorlds().getResourceByName(dGroup.getMapName());
-            if (resource == null) {
-                MessageUtil.sendMessage(player, DMessage.ERROR_TUTORIAL_NOT_EXIST.getMessage());
+        final DGroup tutorialGroup = dGroup;
+        resource.instantiateAsGameWorldAsync().thenAccept(gameWorld -> {
+            if (!player.isOnline() || !plugin.getDGroups().contains(tutorialGroup)) {
+                gameWorld.delete();
+                tutorialGroup.delete();
                 return;
             }
 
-            gameWorld = resource.instantiateAsGameWorld();
-            dGroup.setGameWorld(gameWorld);
-        }
-
-        new Game(dGroup, gameWorld).setTutorial(true);
-        DGamePlayer.create(player, gameWorld);
+            tutorialGroup.setGameWorld(gameWorld);
+            new Game(tutorialGroup, gameWorld).setTutorial(true);
+            DGamePlayer.create(player, gameWorld);
+        }).exceptionally(exception -> {
+            if (!DWorldCache.isCancellation(exception) && player.isOnline()) {
+                MessageUtil.sendMessage(player, DMessage.ERROR_INSTANTIATION.getMessage(resource.getName()));
+            }
+            return null;
+        });
     }
 
 }
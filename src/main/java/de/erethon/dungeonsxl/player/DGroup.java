@@ -38,8 +38,10 @@ import de.erethon.dungeonsxl.reward.Reward;
 import de.erethon.dungeonsxl.util.DColor;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
+import de.erethon.dungeonsxl.world.DWorldCache;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -71,11 +73,16 @@ public class DGroup {
     private List<Reward> rewards = new ArrayList<>();
     private BukkitTask timeIsRunningTask;
     private DResourceWorld nextFloor;
+    private boolean changingFloor;
     private DColor color;
     private int score = 0;
     private int initialLives = -1;
     private int lives = -1;
 
+    // Rebuilt when the members or the DGlobalPlayer objects that represent them change
+    private Set<DGlobalPlayer> dGlobalPlayersView;
+    private Set<DGamePlayer> dGamePlayersView;
+
     public DGroup(Player player) {
         this("Group " + DungeonsXL.getInstance().getDGroups().size(), player);
     }
@@ -115,7 +122,7 @@ public class DGroup {
 
         if (!event.isCancelled()) {
             this.captain = captain;
-            this.players.add(captain);
+            addMember(captain.getUniqueId());
         }
 
         for (Player player : players) {
@@ -156,7 +163,7 @@ public class DGroup {
 
         if (!event.isCancelled()) {
             this.captain = captain;
-            this.players.add(captain);
+            addMember(captain.getUniqueId());
         }
 
         for (Player player : players) {
@@ -191,6 +198,7 @@ public class DGroup {
      */
     public void setName(String name) {
         this.name = name;
+        dPlayers.getChatRouter().invalidate();
     }
 
     /**
@@ -199,6 +207,7 @@ public class DGroup {
      */
     public void setName(DColor color) {
         name = color.toString().replace("_", " ");
+        dPlayers.getChatRouter().invalidate();
     }
 
     /**
@@ -217,6 +226,8 @@ public class DGroup {
     }
 
     /**
+     * Use {@link #addPlayer(Player)} and {@link #removePlayer(Player)} to modify the members so that the player index stays up to date.
+     *
      * @return the players
      */
     public PlayerCollection getPlayers() {
@@ -224,28 +235,62 @@ public class DGroup {
     }
 
     /**
-     * @return the players as a Set<DGlobalPlayer>
+     * The set is cached until the members change; it is safe to iterate over it while members join or leave.
+     *
+     * @return the players as an unmodifiable Set<DGlobalPlayer>
      */
     public Set<DGlobalPlayer> getDGlobalPlayers() {
-        Set<DGlobalPlayer> players = new HashSet<>();
-        for (UUID uuid : this.players.getUniqueIds()) {
-            players.add(dPlayers.getByUniqueId(uuid));
+        Set<DGlobalPlayer> view = dGlobalPlayersView;
+        if (view == null) {
+            Set<DGlobalPlayer> players = new HashSet<>();
+            for (UUID uuid : this.players.getUniqueIds()) {
+                players.add(dPlayers.getByUniqueId(uuid));
+            }
+            view = Collections.unmodifiableSet(players);
+            dGlobalPlayersView = view;
         }
-        return players;
+        return view;
     }
 
     /**
-     * @return the players as a Set<DGamePlayer>
+     * The set is cached until the members change; it is safe to iterate over it while members join or leave.
+     *
+     * @return the players as an unmodifiable Set<DGamePlayer>
      */
     public Set<DGamePlayer> getDGamePlayers() {
-        Set<DGamePlayer> players = new HashSet<>();
-        for (UUID uuid : this.players.getUniqueIds()) {
-            DGlobalPlayer dPlayer = dPlayers.getByUniqueId(uuid);
-            if (dPlayer instanceof DGamePlayer) {
-                players.add((DGamePlayer) dPlayer);
+        Set<DGamePlayer> view = dGamePlayersView;
+        if (view == null) {
+            Set<DGamePlayer> players = new HashSet<>();
+            for (UUID uuid : this.players.getUniqueIds()) {
+                DGlobalPlayer dPlayer = dPlayers.getByUniqueId(uuid);
+                if (dPlayer instanceof DGamePlayer) {
+                    players.add((DGamePlayer) dPlayer);
+                }
             }
+            view = Collections.unmodifiableSet(players);
+            dGamePlayersView = view;
         }
-        return players;
+        return view;
+    }
+
+    /**
+     * Forces the member views to be rebuilt the next time they are requested.
+     */
+    void invalidateMemberViews() {
+        dGlobalPlayersView = null;
+        dGamePlayersView = null;
+    }
+
+    private void addMember(UUID uuid) {
+        players.add(uuid);
+        dPlayers.indexDGroup(uuid, this);
+        invalidateMemberViews();
+    }
+
+    private void removeMember(UUID uuid) {
+        players.remove(uuid);
+        dPlayers.unindexDGroup(uuid, this);
+        invalidateMemberViews();
     }
 
     /**
@@ -274,7 +319,7 @@ public class DGroup {
                 MessageUtil.sendMessage(player, DMessage.PLAYER_JOIN_GROUP.getMessage());
             }
 
-            players.add(player.getUniqueId());
+            addMember(player.getUniqueId());
         }
     }
 
@@ -295,7 +340,7 @@ public class DGroup {
      * if messages should be sent
      */
     public void removePlayer(Player player, boolean message) {
-        players.remove(player.getUniqueId());
+        removeMember(player.getUniqueId());
         GroupSign.updatePerGroup(this);
 
         if (message) {
@@ -609,6 +654,7 @@ public class DGroup {
      */
     public void setDColor(DColor color) {
         this.color = color;
+        dPlayers.getChatRouter().invalidate();
     }
 
     /**
@@ -693,12 +739,16 @@ public class DGroup {
     }
 
     /**
-     * The group finishs the current floor.
+     * The group finishs the current floor. The players are teleported as soon as the next floor is loaded.
      *
      * @param specifiedFloor
      * the name of the next floor
      */
     public void finishFloor(DResourceWorld specifiedFloor) {
+        if (changingFloor) {
+            return;
+        }
+
         DungeonConfig dConfig = dungeon.getConfig();
         int floorsLeft = getUnplayedFloors().size();
         DResourceWorld newFloor = null;
@@ -724,22 +774,41 @@ public class DGroup {
             return;
         }
 
-        Game game = gameWorld.getGame();
+        final Game game = gameWorld.getGame();
+        final DResourceWorld floor = newFloor;
+        final DGameWorld.Type floorType = type;
         removeUnplayedFloor(gameWorld.getResource(), false);
-        DGameWorld gameWorld = newFloor.instantiateAsGameWorld();
-        gameWorld.setType(type);
-        this.gameWorld = gameWorld;
-        game.setWorld(gameWorld);
+        changingFloor = true;
+        floor.instantiateAsGameWorldAsync().thenAccept(gameWorld -> {
+            changingFloor = false;
+            if (!plugin.getDGroups().contains(this) || Game.getByDGroup(this) != game) {
+                gameWorld.delete();
+                return;
+            }
 
-        for (DGamePlayer player : getDGamePlayers()) {
-            player.setWorld(gameWorld.getWorld());
-            player.setCheckpoint(gameWorld.getStartLocation(this));
-            if (player.getWolf() != null) {
-                player.getWolf().teleport(player.getCheckpoint());
+            gameWorld.setType(floorType);
+            this.gameWorld = gameWorld;
+            game.setWorld(gameWorld);
+
+            for (DGamePlayer player : getDGamePlayers()) {
+                player.setWorld(gameWorld.getWorld());
+                player.setCheckpoint(gameWorld.getStartLocation(this));
+                if (player.getWolf() != null) {
+                    player.getWolf().teleport(player.getCheckpoint());
+                }
+                player.setFinished(false);
             }
-            player.setFinished(false);
-        }
-        startGame(game);
+            startGame(game);
+        }).exceptionally(exception -> {
+            changingFloor = false;
+            if (!DWorldCache.isCancellation(exception)) {
+                sendMessage(DMessage.ERROR_INSTANTIATION.getMessage(floor.getName()));
+                for (DGamePlayer player : getDGamePlayers()) {
+                    player.setFinished(false);
+                }
+            }
+            return null;
+        });
     }
 
     /**
@@ -749,6 +818,9 @@ public class DGroup {
         Game game = Game.getByDGroup(this);
 
         plugin.getDGroups().remove(this);
+        for (UUID uuid : players.getUniqueIds()) {
+            dPlayers.unindexDGroup(uuid, this);
+        }
 
         if (game != null) {
             game.removeDGroup(this);
@@ -952,20 +1024,13 @@ public class DGroup {
     }
 
     public static DGroup getByPlayer(Player player) {
-        for (DGroup dGroup : DungeonsXL.getInstance().getDGroups()) {
-            if (dGroup.getPlayers().contains(player)) {
-                return dGroup;
-            }
-        }
-
-        return null;
+        return DungeonsXL.getInstance().getDPlayers().getDGroup(player.getUniqueId());
     }
 
     public static void leaveGroup(Player player) {
-        for (DGroup dGroup : DungeonsXL.getInstance().getDGroups()) {
-            if (dGroup.getPlayers().contains(player)) {
-                dGroup.getPlayers().remove(player);
-            }
+        DGroup dGroup = getByPlayer(player);
+        if (dGroup != null) {
+            dGroup.removeMember(player.getUniqueId());
         }
     }
 
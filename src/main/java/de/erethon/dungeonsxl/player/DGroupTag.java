@@ -20,6 +20,8 @@ import com.gmail.filoghost.holographicdisplays.api.Hologram;
 import com.gmail.filoghost.holographicdisplays.api.HologramsAPI;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.util.LegacyUtil;
+import org.bukkit.Location;
+import org.bukkit.World;
 
 /**
  * @author Daniel Saukel
@@ -29,6 +31,11 @@ public class DGroupTag {
     private DGamePlayer player;
     private Hologram hologram;
 
+    /* The position the hologram has last been moved to */
+    private Location location = new Location(null, 0, 0, 0);
+    private World lastWorld;
+    private double lastX, lastY, lastZ;
+
     public DGroupTag(DGamePlayer player) {
         this.player = player;
         DGroup group = player.getDGroup();
@@ -39,8 +46,37 @@ public class DGroupTag {
         }
     }
 
+    /**
+     * Moves the hologram above the player.
+     */
     public void update() {
-        hologram.teleport(player.getPlayer().getLocation().clone().add(0, 3.5, 0));
+        update(0);
+    }
+
+    /**
+     * Moves the hologram above the player if the player has moved at least the given distance since the last update.
+     *
+     * @param threshold
+     * the minimum distance
+     */
+    public void update(double threshold) {
+        if (hologram == null || hologram.isDeleted()) {
+            return;
+        }
+
+        player.getPlayer().getLocation(location);
+        if (location.getWorld() == lastWorld && threshold > 0) {
+            double dx = location.getX() - lastX, dy = location.getY() - lastY, dz = location.getZ() - lastZ;
+            if (dx * dx + dy * dy + dz * dz < threshold * threshold) {
+                return;
+            }
+        }
+
+        lastWorld = location.getWorld();
+        lastX = location.getX();
+        lastY = location.getY();
+        lastZ = location.getZ();
+        hologram.teleport(location.add(0, 3.5, 0));
     }
 
 }
@@ -17,7 +17,6 @@
 package de.erethon.dungeonsxl.player;
 
 import de.erethon.dungeonsxl.config.MainConfig;
-import de.erethon.dungeonsxl.util.ParsingUtil;
 import de.erethon.dungeonsxl.world.DInstanceWorld;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -33,10 +32,12 @@ public abstract class DInstancePlayer extends DGlobalPlayer {
     MainConfig config = plugin.getMainConfig();
 
     private World world;
+    private int updateShard;
 
     DInstancePlayer(Player player, World world) {
         super(player, false);
         this.world = world;
+        updateShard = Math.floorMod(getUniqueId().hashCode(), UpdateTask.LAZY_UPDATE_INTERVAL);
         getData().savePlayerState(player);
     }
 
@@ -57,6 +58,14 @@ public abstract class DInstancePlayer extends DGlobalPlayer {
         world = instance;
     }
 
+    /**
+     * @return
+     * the shard of the {@link UpdateTask} the player is updated in
+     */
+    int getUpdateShard() {
+        return updateShard;
+    }
+
     // Players in dungeons never get announcer messages
     @Override
     public boolean isAnnouncerEnabled() {
@@ -104,12 +113,17 @@ public abstract class DInstancePlayer extends DGlobalPlayer {
         if (instance == null) {
             return;
         }
-        instance.sendMessage(ParsingUtil.replaceChatPlaceholders(config.getChatFormatGame(), this) + message);
+        DGroup dGroup = DGroup.getByPlayer(getPlayer());
+        instance.sendMessage(config.getCompiledChatFormatGame().format(getName(), dGroup) + message);
 
-        for (DGlobalPlayer player : plugin.getDPlayers().getDGlobalPlayers()) {
+        String spyMessage = null;
+        for (DGlobalPlayer player : plugin.getDPlayers().getDGlobalPlayerView()) {
             if (player.isInChatSpyMode()) {
-                if (!instance.getWorld().getPlayers().contains(player.getPlayer())) {
-                    player.sendMessage(ParsingUtil.replaceChatPlaceholders(config.getChatFormatSpy(), this) + message);
+                if (player.getPlayer().getWorld() != instance.getWorld()) {
+                    if (spyMessage == null) {
+                        spyMessage = config.getCompiledChatFormatSpy().format(getName(), dGroup) + message;
+                    }
+                    player.sendMessage(spyMessage);
                 }
             }
         }
@@ -16,10 +16,16 @@
  */
 package de.erethon.dungeonsxl.player;
 
-import de.erethon.commons.misc.EnumUtil;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.permissions.Permission;
@@ -94,12 +100,47 @@ public enum DPermission {
 
     public static final String PREFIX = "dxl.";
 
+    /* Values mapped by their name, their node and their node without prefix */
+    private static final Map<String, DPermission> LOOKUP = new HashMap<>();
+
+    static {
+        for (DPermission permission : values()) {
+            LOOKUP.put(permission.node, permission);
+            LOOKUP.put(permission.fullNode, permission);
+        }
+        for (DPermission permission : values()) {
+            LOOKUP.put(permission.name(), permission);
+        }
+
+        // Resolve the transitive parents of each permission once
+        for (DPermission permission : values()) {
+            Set<DPermission> ancestors = EnumSet.noneOf(DPermission.class);
+            Deque<DPermission> queue = new ArrayDeque<>();
+            queue.add(permission);
+            while (!queue.isEmpty()) {
+                DPermission current = queue.poll();
+                for (DPermission parent : values()) {
+                    if (parent.children.contains(current) && ancestors.add(parent)) {
+                        queue.add(parent);
+                    }
+                }
+            }
+            ancestors.remove(permission);
+            permission.ancestors = Collections.unmodifiableSet(ancestors);
+            permission.ancestorArray = ancestors.toArray(new DPermission[ancestors.size()]);
+        }
+    }
+
     private String node;
+    private String fullNode;
     private PermissionDefault isDefault;
     private List<DPermission> children = new ArrayList<>();
+    private Set<DPermission> ancestors;
+    private DPermission[] ancestorArray;
 
     DPermission(String node, PermissionDefault isDefault) {
         this.node = node;
+        this.fullNode = PREFIX + node;
         this.isDefault = isDefault;
     }
 
@@ -112,7 +153,7 @@ public enum DPermission {
      * @return the permission node String
      */
     public String getNode() {
-        return PREFIX + node;
+        return fullNode;
     }
 
     /**
@@ -136,6 +177,13 @@ public enum DPermission {
         return children;
     }
 
+    /**
+     * @return the permissions that contain this permission as a direct or indirect child
+     */
+    public Set<DPermission> getAncestors() {
+        return ancestors;
+    }
+
     /**
      * @param node
      * the node String, with or without "dxl."
@@ -143,12 +191,11 @@ public enum DPermission {
      * the DPermission value
      */
     public static DPermission getByNode(String node) {
-        for (DPermission permission : values()) {
-            if (permission.getNode().equals(node) || permission.node.equals(node)) {
-                return permission;
-            }
+        DPermission permission = LOOKUP.get(node);
+        // The lookup map also contains the enum names
+        if (permission != null && (permission.fullNode.equals(node) || permission.node.equals(node))) {
+            return permission;
         }
-
         return null;
     }
 
@@ -158,12 +205,12 @@ public enum DPermission {
      * @return if the player has the permission
      */
     public static boolean hasPermission(CommandSender sender, DPermission permission) {
-        if (sender.hasPermission(permission.getNode())) {
+        if (sender.hasPermission(permission.fullNode)) {
             return true;
         }
 
-        for (DPermission parent : DPermission.values()) {
-            if (parent.getChildren().contains(permission) && sender.hasPermission(parent.getNode())) {
+        for (DPermission ancestor : permission.ancestorArray) {
+            if (sender.hasPermission(ancestor.fullNode)) {
                 return true;
             }
         }
@@ -181,20 +228,13 @@ public enum DPermission {
             return true;
         }
 
-        DPermission dPermission = null;
-        if (EnumUtil.isValidEnum(DPermission.class, permission)) {
-            dPermission = DPermission.valueOf(permission);
-
-        } else if (DPermission.getByNode(permission) != null) {
-            dPermission = DPermission.getByNode(permission);
-        }
-
+        DPermission dPermission = LOOKUP.get(permission);
         if (dPermission == null) {
             return false;
         }
 
-        for (DPermission parent : DPermission.values()) {
-            if (parent.getChildren().contains(dPermission) && sender.hasPermission(parent.getNode())) {
+        for (DPermission ancestor : dPermission.ancestorArray) {
+            if (sender.hasPermission(ancestor.fullNode)) {
                 return true;
             }
         }
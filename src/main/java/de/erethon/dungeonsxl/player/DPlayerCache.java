@@ -19,9 +19,12 @@ package de.erethon.dungeonsxl.player;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.MainConfig;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
@@ -37,29 +40,39 @@ public class DPlayerCache {
     MainConfig mainConfig = plugin.getMainConfig();
 
     private BukkitTask secureModeTask;
-    private BukkitTask updateTask;
-    private BukkitTask lazyUpdateTask;
+    private UpdateTask updateTask;
+    private GroupTagUpdateTask groupTagUpdateTask;
+    private ChatRouter chatRouter = new ChatRouter(plugin, this);
 
-    private CopyOnWriteArrayList<DGlobalPlayer> dGlobalPlayers = new CopyOnWriteArrayList<>();
+    /* Typed indices; the views of the values are weakly consistent and may be iterated while players are added or removed */
+    private Map<UUID, DGlobalPlayer> dGlobalPlayersByUuid = new ConcurrentHashMap<>();
+    private Map<UUID, DInstancePlayer> dInstancePlayers = new ConcurrentHashMap<>();
+    private Map<UUID, DGamePlayer> dGamePlayers = new ConcurrentHashMap<>();
+    private Map<UUID, DEditPlayer> dEditPlayers = new ConcurrentHashMap<>();
+    private Map<String, DGlobalPlayer> dGlobalPlayersByName = new ConcurrentHashMap<>();
+    private Map<UUID, DGroup> dGroups = new ConcurrentHashMap<>();
 
     public DPlayerCache() {
         if (mainConfig.isSecureModeEnabled()) {
             startSecureModeTask(mainConfig.getSecureModeCheckInterval());
         }
-        startUpdateTask(2L);
-        startLazyUpdateTask(20L);
+        startUpdateTask();
+        if (mainConfig.getGroupTagUpdateInterval() > 0) {
+            startGroupTagUpdateTask(mainConfig.getGroupTagUpdateInterval());
+        }
 
-        Bukkit.getPluginManager().registerEvents(new DPlayerListener(this), plugin);
+        DPlayerListener listener = new DPlayerListener(this);
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+        plugin.getMoveDispatcher().register("Flag capture", listener);
     }
 
     /**
      * @return the DGlobalPlayer which represents the player
      */
     public DGlobalPlayer getByPlayer(Player player) {
-        for (DGlobalPlayer dGlobalPlayer : dGlobalPlayers) {
-            if (dGlobalPlayer.getPlayer() == player) {
-                return dGlobalPlayer;
-            }
+        DGlobalPlayer dGlobalPlayer = dGlobalPlayersByUuid.get(player.getUniqueId());
+        if (dGlobalPlayer != null) {
+            return dGlobalPlayer;
         }
         return new DGlobalPlayer(player);
     }
@@ -68,67 +81,130 @@ public class DPlayerCache {
      * @return the DGlobalPlayer which represents the player with this UUID
      */
     public DGlobalPlayer getByUniqueId(UUID uuid) {
-        for (DGlobalPlayer dGlobalPlayer : dGlobalPlayers) {
-            if (dGlobalPlayer.getUniqueId().equals(uuid)) {
-                return dGlobalPlayer;
-            }
-        }
-        return null;
+        return dGlobalPlayersByUuid.get(uuid);
+    }
+
+    /**
+     * @return the DGlobalPlayer which represents the player with this name; case-insensitive
+     */
+    public DGlobalPlayer getByName(String name) {
+        return dGlobalPlayersByName.get(name.toLowerCase());
+    }
+
+    /**
+     * @param uuid
+     * the UUID of the player
+     * @return the DGroup the player with this UUID is a member of or null if the player is not in a group
+     */
+    public DGroup getDGroup(UUID uuid) {
+        return dGroups.get(uuid);
+    }
+
+    void indexDGroup(UUID uuid, DGroup dGroup) {
+        dGroups.put(uuid, dGroup);
+        chatRouter.invalidate();
+    }
+
+    void unindexDGroup(UUID uuid, DGroup dGroup) {
+        dGroups.remove(uuid, dGroup);
+        chatRouter.invalidate();
+    }
+
+    /**
+     * @return the router of the group chat
+     */
+    public ChatRouter getChatRouter() {
+        return chatRouter;
     }
 
     /**
-     * @return the dGlobalPlayers
+     * @return a copy of the dGlobalPlayers; use {@link #getDGlobalPlayerView()} to iterate without copying
      */
     public List<DGlobalPlayer> getDGlobalPlayers() {
-        return dGlobalPlayers;
+        return new ArrayList<>(dGlobalPlayersByUuid.values());
     }
 
     /**
-     * @return the dGlobalPlayers that are an instance of DInstancePlayer
+     * @return a copy of the dGlobalPlayers that are an instance of DInstancePlayer; use {@link #getDInstancePlayerView()} to iterate without
+     * copying
      */
     public List<DInstancePlayer> getDInstancePlayers() {
-        List<DInstancePlayer> dInstancePlayers = new ArrayList<>();
-        for (DGlobalPlayer player : dGlobalPlayers) {
-            if (player instanceof DInstancePlayer) {
-                dInstancePlayers.add((DInstancePlayer) player);
-            }
-        }
-        return dInstancePlayers;
+        return new ArrayList<>(dInstancePlayers.values());
     }
 
     /**
-     * @return the dGlobalPlayers that are an instance of DGamePlayer
+     * @return a copy of the dGlobalPlayers that are an instance of DGamePlayer; use {@link #getDGamePlayerView()} to iterate without copying
      */
     public List<DGamePlayer> getDGamePlayers() {
-        List<DGamePlayer> dPlayers = new ArrayList<>();
-        for (DGlobalPlayer player : dGlobalPlayers) {
-            if (player instanceof DGamePlayer) {
-                dPlayers.add((DGamePlayer) player);
-            }
-        }
-        return dPlayers;
+        return new ArrayList<>(dGamePlayers.values());
     }
 
     /**
-     * @return the dGlobalPlayers that are an instance of DEditPlayer
+     * @return a copy of the dGlobalPlayers that are an instance of DEditPlayer; use {@link #getDEditPlayerView()} to iterate without copying
      */
     public List<DEditPlayer> getDEditPlayers() {
-        List<DEditPlayer> dEditPlayers = new ArrayList<>();
-        for (DGlobalPlayer player : dGlobalPlayers) {
-            if (player instanceof DEditPlayer) {
-                dEditPlayers.add((DEditPlayer) player);
-            }
-        }
-        return dEditPlayers;
+        return new ArrayList<>(dEditPlayers.values());
     }
 
     /**
+     * @return a live, unmodifiable view of the dGlobalPlayers in no particular order
+     */
+    public Collection<DGlobalPlayer> getDGlobalPlayerView() {
+        return Collections.unmodifiableCollection(dGlobalPlayersByUuid.values());
+    }
+
+    /**
+     * @return a live, unmodifiable view of the dGlobalPlayers that are an instance of DInstancePlayer in no particular order
+     */
+    public Collection<DInstancePlayer> getDInstancePlayerView() {
+        return Collections.unmodifiableCollection(dInstancePlayers.values());
+    }
+
+    /**
+     * @return a live, unmodifiable view of the dGlobalPlayers that are an instance of DGamePlayer in no particular order
+     */
+    public Collection<DGamePlayer> getDGamePlayerView() {
+        return Collections.unmodifiableCollection(dGamePlayers.values());
+    }
+
+    /**
+     * @return a live, unmodifiable view of the dGlobalPlayers that are an instance of DEditPlayer in no particular order
+     */
+    public Collection<DEditPlayer> getDEditPlayerView() {
+        return Collections.unmodifiableCollection(dEditPlayers.values());
+    }
+
+    /**
+     * Replaces the DGlobalPlayer that represents the same user if one exists.
+     *
      * @param player
      * an instance of DGlobalPlayer to add
      */
     public void addPlayer(DGlobalPlayer player) {
-        removePlayer(player);
-        dGlobalPlayers.add(player);
+        DGlobalPlayer previous = dGlobalPlayersByUuid.put(player.getUniqueId(), player);
+        if (previous == player) {
+            return;
+        } else if (previous != null) {
+            unindex(previous);
+        }
+
+        UUID uuid = player.getUniqueId();
+        dGlobalPlayersByName.put(player.getPlayer().getName().toLowerCase(), player);
+        if (player instanceof DInstancePlayer) {
+            dInstancePlayers.put(uuid, (DInstancePlayer) player);
+        }
+        if (player instanceof DGamePlayer) {
+            dGamePlayers.put(uuid, (DGamePlayer) player);
+        } else if (player instanceof DEditPlayer) {
+            dEditPlayers.put(uuid, (DEditPlayer) player);
+        }
+
+        // The typed member views of the group depend on the class of the player object
+        DGroup dGroup = dGroups.get(player.getUniqueId());
+        if (dGroup != null) {
+            dGroup.invalidateMemberViews();
+        }
+        chatRouter.invalidate();
     }
 
     /**
@@ -136,13 +212,26 @@ public class DPlayerCache {
      * an instance of DGlobalPlayer to remove
      */
     public void removePlayer(DGlobalPlayer player) {
-        for (DGlobalPlayer dGlobalPlayer : dGlobalPlayers) {
-            if (dGlobalPlayer.getPlayer().equals(player.getPlayer())) {
-                dGlobalPlayers.remove(dGlobalPlayer);
+        DGlobalPlayer removed = dGlobalPlayersByUuid.remove(player.getUniqueId());
+        if (removed != null) {
+            unindex(removed);
+
+            DGroup dGroup = dGroups.get(removed.getUniqueId());
+            if (dGroup != null) {
+                dGroup.invalidateMemberViews();
             }
+            chatRouter.invalidate();
         }
     }
 
+    private void unindex(DGlobalPlayer player) {
+        UUID uuid = player.getUniqueId();
+        dGlobalPlayersByName.remove(player.getPlayer().getName().toLowerCase(), player);
+        dInstancePlayers.remove(uuid, player);
+        dGamePlayers.remove(uuid, player);
+        dEditPlayers.remove(uuid, player);
+    }
+
     /**
      * Load all players
      */
@@ -189,29 +278,31 @@ public class DPlayerCache {
     /**
      * @return the updateTask
      */
-    public BukkitTask getUpdateTask() {
+    public UpdateTask getUpdateTask() {
         return updateTask;
     }
 
     /**
-     * start a new LazyUpdateTask
+     * start a new UpdateTask
      */
-    public void startUpdateTask(long period) {
-        updateTask = new UpdateTask().runTaskTimer(plugin, period, period);
+    public void startUpdateTask() {
+        updateTask = new UpdateTask(this, mainConfig.getPlayerUpdateBudget());
+        updateTask.runTaskTimer(plugin, 1L, 1L);
     }
 
     /**
-     * @return the lazyUpdateTask
+     * @return the groupTagUpdateTask
      */
-    public BukkitTask getLazyUpdateTask() {
-        return lazyUpdateTask;
+    public GroupTagUpdateTask getGroupTagUpdateTask() {
+        return groupTagUpdateTask;
     }
 
     /**
-     * start a new LazyUpdateTask
+     * start a new GroupTagUpdateTask
      */
-    public void startLazyUpdateTask(long period) {
-        lazyUpdateTask = new LazyUpdateTask().runTaskTimer(plugin, period, period);
+    public void startGroupTagUpdateTask(long period) {
+        groupTagUpdateTask = new GroupTagUpdateTask(this, mainConfig.getGroupTagUpdateThreshold());
+        groupTagUpdateTask.runTaskTimer(plugin, period, period);
     }
 
 }
@@ -20,15 +20,17 @@ import de.erethon.commons.chat.MessageUtil;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
 import de.erethon.dungeonsxl.config.MainConfig;
+import de.erethon.dungeonsxl.game.CompiledGameRules;
 import de.erethon.dungeonsxl.game.Game;
 import de.erethon.dungeonsxl.mob.DMob;
 import de.erethon.dungeonsxl.trigger.UseItemTrigger;
+import de.erethon.dungeonsxl.util.CommandWhitelist;
 import de.erethon.dungeonsxl.util.LegacyUtil;
-import de.erethon.dungeonsxl.util.ParsingUtil;
 import de.erethon.dungeonsxl.world.DEditWorld;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import de.erethon.dungeonsxl.world.DInstanceWorld;
 import de.erethon.dungeonsxl.world.block.LockedDoor;
-import java.util.ArrayList;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -61,7 +63,7 @@ import org.bukkit.inventory.meta.BookMeta;
 /**
  * @author Daniel Saukel, Frank Baumann, Milan Albrecht
  */
-public class DPlayerListener implements Listener {
+public class DPlayerListener implements Listener, BlockEnterHandler {
 
     DungeonsXL plugin = DungeonsXL.getInstance();
     DPlayerCache dPlayers;
@@ -132,8 +134,9 @@ public class DPlayerListener implements Listener {
             return;
         }
 
-        boolean pvp = game.getRules().isPlayerVersusPlayer();
-        boolean friendlyFire = game.getRules().isFriendlyFire();
+        CompiledGameRules rules = game.getCompiledRules();
+        boolean pvp = rules.isPlayerVersusPlayer();
+        boolean friendlyFire = rules.isFriendlyFire();
 
         Entity attackerEntity = event.getDamager();
         Entity attackedEntity = event.getEntity();
@@ -221,24 +224,24 @@ public class DPlayerListener implements Listener {
         if (isCitizensNPC(player)) {
             return;
         }
-        DGlobalPlayer dPlayer = dPlayers.getByPlayer(player);
-        if (dPlayer == null) {
-            return;
-        }
-        if (!dPlayer.isInGroupChat()) {
-            return;
-        }
-        DGroup dGroup = DGroup.getByPlayer(player);
-        if (dGroup == null) {
+        // This event is called asynchronously; only the immutable snapshot of the chat router may be accessed here
+        ChatRouter.Route route = dPlayers.getChatRouter().getRoute(player.getUniqueId());
+        if (route == null) {
             return;
         }
 
-        boolean game = event.getMessage().startsWith(ALL) && dPlayer instanceof DInstancePlayer;
+        boolean game = event.getMessage().startsWith(ALL) && route.isInstancePlayer();
         event.setCancelled(true);
         if (game) {
-            ((DInstancePlayer) dPlayer).chat(event.getMessage().substring(ALL.length()));
+            String message = event.getMessage().substring(ALL.length());
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                DGlobalPlayer dPlayer = dPlayers.getByPlayer(player);
+                if (dPlayer instanceof DInstancePlayer) {
+                    ((DInstancePlayer) dPlayer).chat(message);
+                }
+            });
         } else {
-            dGroup.sendMessage(ParsingUtil.replaceChatPlaceholders(config.getChatFormatGroup(), dPlayer) + event.getMessage());
+            route.sendToGroup(event.getMessage());
         }
     }
 
@@ -258,38 +261,26 @@ public class DPlayerListener implements Listener {
         }
         DInstancePlayer dPlayer = (DInstancePlayer) dPlayers.getByPlayer(player);
 
-        String command = event.getMessage().toLowerCase();
-        ArrayList<String> commandWhitelist = new ArrayList<>();
-
-        Game game = Game.getByWorld(dPlayer.getWorld());
+        CommandWhitelist commandWhitelist = CommandWhitelist.DEFAULT;
 
         if (dPlayer instanceof DEditPlayer) {
             if (DPermission.hasPermission(player, DPermission.CMD_EDIT)) {
                 return;
 
             } else {
-                commandWhitelist.addAll(config.getEditCommandWhitelist());
-            }
-
-        } else if (game != null) {
-            if (game.getRules() != null) {
-                commandWhitelist.addAll(game.getRules().getGameCommandWhitelist());
+                commandWhitelist = config.getCompiledEditCommandWhitelist();
             }
-        }
 
-        commandWhitelist.add("dungeonsxl");
-        commandWhitelist.add("dungeon");
-        commandWhitelist.add("dxl");
-
-        event.setCancelled(true);
-
-        for (String whitelistEntry : commandWhitelist) {
-            if (command.equals('/' + whitelistEntry.toLowerCase()) || command.startsWith('/' + whitelistEntry.toLowerCase() + ' ')) {
-                event.setCancelled(false);
+        } else {
+            Game game = Game.getByWorld(dPlayer.getWorld());
+            if (game != null && game.getRules() != null) {
+                commandWhitelist = game.getCompiledRules().getGameCommandWhitelist();
             }
         }
 
-        if (event.isCancelled()) {
+        boolean allowed = commandWhitelist.isAllowed(event.getMessage());
+        event.setCancelled(!allowed);
+        if (!allowed) {
             MessageUtil.sendMessage(player, DMessage.ERROR_CMD.getMessage());
         }
     }
@@ -407,24 +398,33 @@ public class DPlayerListener implements Listener {
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
+        // Otherwise, the tags are moved by the GroupTagUpdateTask
+        if (config.getGroupTagUpdateInterval() > 0) {
+            return;
+        }
         Player player = event.getPlayer();
         if (isCitizensNPC(player)) {
             return;
         }
-        DGameWorld gameWorld = DGameWorld.getByWorld(player.getWorld());
         DGamePlayer gamePlayer = DGamePlayer.getByPlayer(player);
-        if (gameWorld != null && gamePlayer != null) {
-            if (gamePlayer.getDGroupTag() != null) {
-                gamePlayer.getDGroupTag().update();
-            }
-            if (gamePlayer.isStealing()) {
-                DGroup group = gamePlayer.getDGroup();
-                Location startLocation = gameWorld.getStartLocation(group);
+        if (gamePlayer != null && gamePlayer.getDGroupTag() != null && DGameWorld.getByWorld(player.getWorld()) != null) {
+            gamePlayer.getDGroupTag().update();
+        }
+    }
 
-                if (startLocation.distance(player.getLocation()) < 3) {
-                    gamePlayer.captureFlag();
-                }
-            }
+    @Override
+    public void onBlockEnter(Player player, DGlobalPlayer dPlayer, DInstanceWorld instance, Location to) {
+        if (!(dPlayer instanceof DGamePlayer) || !(instance instanceof DGameWorld)) {
+            return;
+        }
+        DGamePlayer gamePlayer = (DGamePlayer) dPlayer;
+        if (!gamePlayer.isStealing()) {
+            return;
+        }
+
+        Location startLocation = ((DGameWorld) instance).getStartLocation(gamePlayer.getDGroup());
+        if (startLocation.getWorld() == to.getWorld() && startLocation.distanceSquared(to) < 9) {
+            gamePlayer.captureFlag();
         }
     }
 
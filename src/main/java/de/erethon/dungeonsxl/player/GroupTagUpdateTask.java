@@ -16,18 +16,30 @@
  */
 package de.erethon.dungeonsxl.player;
 
-import de.erethon.dungeonsxl.DungeonsXL;
 import org.bukkit.scheduler.BukkitRunnable;
 
 /**
- * @author Frank Baumann, Daniel Saukel
+ * Moves the group tags of all game players that have moved far enough since the last run.
+ *
+ * @author agent
  */
-public class LazyUpdateTask extends BukkitRunnable {
+public class GroupTagUpdateTask extends BukkitRunnable {
+
+    private DPlayerCache dPlayers;
+    private double threshold;
+
+    public GroupTagUpdateTask(DPlayerCache dPlayers, double threshold) {
+        this.dPlayers = dPlayers;
+        this.threshold = threshold;
+    }
 
     @Override
     public void run() {
-        for (DGamePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDGamePlayers()) {
-            dPlayer.update(true);
+        for (DGamePlayer dPlayer : dPlayers.getDGamePlayerView()) {
+            DGroupTag groupTag = dPlayer.getDGroupTag();
+            if (groupTag != null) {
+                groupTag.update(threshold);
+            }
         }
     }
 
@@ -17,8 +17,6 @@
 package de.erethon.dungeonsxl.player;
 
 import de.erethon.commons.chat.MessageUtil;
-import de.erethon.commons.config.MessageConfig;
-import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
 import de.erethon.dungeonsxl.event.dplayer.DPlayerKickEvent;
 import de.erethon.dungeonsxl.game.Game;
@@ -32,8 +30,6 @@ import org.bukkit.scheduler.BukkitRunnable;
  */
 public class TimeIsRunningTask extends BukkitRunnable {
 
-    MessageConfig messageConfig = DungeonsXL.getInstance().getMessageConfig();
-
     private DGroup dGroup;
     private int time;
     private int timeLeft;
@@ -57,8 +53,9 @@ public class TimeIsRunningTask extends BukkitRunnable {
             color = ChatColor.DARK_RED.toString();
 
         } finally {
+            String timeLeftMessage = DMessage.PLAYER_TIME_LEFT.getMessage(color, String.valueOf(timeLeft));
             for (Player player : dGroup.getPlayers().getOnlinePlayers()) {
-                MessageUtil.sendActionBarMessage(player, DMessage.PLAYER_TIME_LEFT.getMessage(color, String.valueOf(timeLeft)));
+                MessageUtil.sendActionBarMessage(player, timeLeftMessage);
 
                 DGamePlayer dPlayer = DGamePlayer.getByPlayer(player);
                 if (timeLeft > 0) {
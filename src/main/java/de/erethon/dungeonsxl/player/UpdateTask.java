@@ -16,19 +16,116 @@
  */
 package de.erethon.dungeonsxl.player;
 
-import de.erethon.dungeonsxl.DungeonsXL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
 import org.bukkit.scheduler.BukkitRunnable;
 
 /**
+ * Updates all instance players.
+ * <p>
+ * The players are spread across ticks in shards that are assigned once per player, and the time spent per tick is limited by
+ * {@link de.erethon.dungeonsxl.config.MainConfig#getPlayerUpdateBudget()}. Updates that do not fit into the budget are
+ * carried over to the next tick. Regular and lazy updates take turns so that neither queue can starve the other.
+ *
  * @author Frank Baumann, Daniel Saukel
  */
 public class UpdateTask extends BukkitRunnable {
 
+    /**
+     * The interval in ticks between two regular updates of the same player
+     */
+    public static final int UPDATE_INTERVAL = 2;
+    /**
+     * The interval in ticks between two "update seconds" of the same game player
+     */
+    public static final int LAZY_UPDATE_INTERVAL = 20;
+
+    private DPlayerCache dPlayers;
+    private long budget;
+
+    private long tick;
+    private int ticksBehind;
+    private Deque<DInstancePlayer> pending = new ArrayDeque<>();
+    private Set<DInstancePlayer> pendingSet = new HashSet<>();
+    private Deque<DGamePlayer> pendingLazy = new ArrayDeque<>();
+    private Set<DGamePlayer> pendingLazySet = new HashSet<>();
+    private boolean lazyTurn;
+
+    /**
+     * @param dPlayers
+     * the player cache
+     * @param budget
+     * the maximum time in milliseconds to spend per tick; 0 if unlimited
+     */
+    public UpdateTask(DPlayerCache dPlayers, double budget) {
+        this.dPlayers = dPlayers;
+        this.budget = (long) (budget * 1000000);
+    }
+
+    /**
+     * @return the amount of updates that are due, but did not fit into the budget
+     */
+    public int getPendingUpdates() {
+        return pending.size() + pendingLazy.size();
+    }
+
+    /**
+     * @return for how many consecutive ticks the task has not been able to finish all due updates
+     */
+    public int getTicksBehind() {
+        return ticksBehind;
+    }
+
     @Override
     public void run() {
-        for (DInstancePlayer dPlayer : DungeonsXL.getInstance().getDPlayers().getDInstancePlayers()) {
-            dPlayer.update(false);
+        long start = System.nanoTime();
+
+        for (DInstancePlayer dPlayer : dPlayers.getDInstancePlayerView()) {
+            int shard = dPlayer.getUpdateShard();
+            if ((tick + shard) % UPDATE_INTERVAL == 0 && pendingSet.add(dPlayer)) {
+                pending.add(dPlayer);
+            }
+            if (dPlayer instanceof DGamePlayer && (tick + shard) % LAZY_UPDATE_INTERVAL == 0 && pendingLazySet.add((DGamePlayer) dPlayer)) {
+                pendingLazy.add((DGamePlayer) dPlayer);
+            }
         }
+        tick++;
+
+        // At least one update per tick is always performed so that the task cannot stall completely
+        boolean first = true;
+        while (!pending.isEmpty() || !pendingLazy.isEmpty()) {
+            if (!first && budget > 0 && System.nanoTime() - start > budget) {
+                break;
+            }
+            first = false;
+
+            boolean lazy = pending.isEmpty() || (lazyTurn && !pendingLazy.isEmpty());
+            lazyTurn = !lazyTurn;
+
+            if (!lazy) {
+                DInstancePlayer dPlayer = pending.poll();
+                pendingSet.remove(dPlayer);
+                if (isValid(dPlayer)) {
+                    dPlayer.update(false);
+                }
+
+            } else {
+                DGamePlayer dPlayer = pendingLazy.poll();
+                pendingLazySet.remove(dPlayer);
+                if (isValid(dPlayer)) {
+                    dPlayer.update(true);
+                }
+            }
+        }
+
+        ticksBehind = getPendingUpdates() == 0 ? 0 : ticksBehind + 1;
+    }
+
+    private boolean isValid(DInstancePlayer dPlayer) {
+        // The player might have left the instance since the update was scheduled
+        return dPlayers.getByUniqueId(dPlayer.getUniqueId()) == dPlayer;
     }
 
 }
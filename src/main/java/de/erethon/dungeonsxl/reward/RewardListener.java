@@ -19,27 +19,30 @@ package de.erethon.dungeonsxl.reward;
 import de.erethon.commons.gui.PageGUI;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.DMessage;
+import de.erethon.dungeonsxl.player.BlockEnterHandler;
 import de.erethon.dungeonsxl.player.DGlobalPlayer;
 import de.erethon.dungeonsxl.player.DPermission;
 import de.erethon.dungeonsxl.world.DEditWorld;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import de.erethon.dungeonsxl.world.DInstanceWorld;
 import de.erethon.dungeonsxl.world.block.RewardChest;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 
 /**
  * @author Frank Baumann, Daniel Saukel
  */
-public class RewardListener implements Listener {
+public class RewardListener implements Listener, BlockEnterHandler {
 
     DungeonsXL plugin = DungeonsXL.getInstance();
 
@@ -105,16 +108,15 @@ public class RewardListener implements Listener {
         }
     }
 
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        DGlobalPlayer dPlayer = plugin.getDPlayers().getByPlayer(player);
-        if (plugin.getDWorlds().getInstanceByWorld(player.getWorld()) != null) {
+    @Override
+    public void onBlockEnter(Player player, DGlobalPlayer dPlayer, DInstanceWorld instance, Location to) {
+        if (!dPlayer.hasRewardItemsLeft() || instance != null) {
             return;
         }
-        if (dPlayer.hasRewardItemsLeft() && player.getLocation().getBlock().getRelative(0, 1, 0).getType() != Material.PORTAL && player.getLocation().getBlock().getRelative(0, -1, 0).getType() != Material.PORTAL
-                && player.getLocation().getBlock().getRelative(1, 0, 0).getType() != Material.PORTAL && player.getLocation().getBlock().getRelative(-1, 0, 0).getType() != Material.PORTAL
-                && player.getLocation().getBlock().getRelative(0, 0, 1).getType() != Material.PORTAL && player.getLocation().getBlock().getRelative(0, 0, -1).getType() != Material.PORTAL) {
+        Block block = to.getBlock();
+        if (block.getRelative(0, 1, 0).getType() != Material.PORTAL && block.getRelative(0, -1, 0).getType() != Material.PORTAL
+                && block.getRelative(1, 0, 0).getType() != Material.PORTAL && block.getRelative(-1, 0, 0).getType() != Material.PORTAL
+                && block.getRelative(0, 0, 1).getType() != Material.PORTAL && block.getRelative(0, 0, -1).getType() != Material.PORTAL) {
             PageGUI lootInventory = new PageGUI(DMessage.PLAYER_TREASURES.getMessage(), true);
             for (ItemStack item : dPlayer.getRewardItems()) {
                 if (item != null) {
@@ -33,7 +33,9 @@ public class RewardTypeCache {
 
     public RewardTypeCache() {
         types.addAll(Arrays.asList(RewardTypeDefault.values()));
-        Bukkit.getPluginManager().registerEvents(new RewardListener(), DungeonsXL.getInstance());
+        RewardListener listener = new RewardListener();
+        Bukkit.getPluginManager().registerEvents(listener, DungeonsXL.getInstance());
+        DungeonsXL.getInstance().getMoveDispatcher().register("Reward inventories", listener);
     }
 
     /**
@@ -17,9 +17,11 @@
 package de.erethon.dungeonsxl.sign;
 
 import de.erethon.commons.misc.NumberUtil;
+import de.erethon.dungeonsxl.util.PositionUtil;
 import de.erethon.dungeonsxl.world.DGameWorld;
-import org.bukkit.Chunk;
+import de.erethon.dungeonsxl.world.LoadedChunks;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Sign;
 
 /**
@@ -29,6 +31,9 @@ public class ChunkUpdaterSign extends DSign {
 
     private DSignType type = DSignTypeDefault.CHUNK_UPDATER;
 
+    // The packed coordinates of the chunks this sign keeps loaded
+    private long[] chunks = new long[0];
+
     public ChunkUpdaterSign(Sign sign, String[] lines, DGameWorld gameWorld) {
         super(sign, lines, gameWorld);
     }
@@ -40,26 +45,50 @@ public class ChunkUpdaterSign extends DSign {
 
     @Override
     public void onInit() {
-        Chunk chunk = getGameWorld().getWorld().getChunkAt(getSign().getBlock());
+        World world = getGameWorld().getWorld();
+        LoadedChunks loadedChunks = getGameWorld().getLoadedChunkReferences();
+        int chunkX = getSign().getX() >> 4;
+        int chunkZ = getSign().getZ() >> 4;
 
         if (!lines[1].isEmpty()) {
-            Integer radius = NumberUtil.parseInt(lines[1]);
+            int radius = Math.max(0, NumberUtil.parseInt(lines[1]));
+            chunks = new long[4 * radius * radius];
+            int i = 0;
             for (int x = -radius; x < radius; x++) {
                 for (int z = -radius; z < radius; z++) {
-                    Chunk chunk1 = getGameWorld().getWorld().getChunkAt(chunk.getX() - x, chunk.getZ() - z);
-                    chunk1.load();
-                    getGameWorld().getLoadedChunks().add(chunk1);
+                    int cx = chunkX - x, cz = chunkZ - z;
+                    if (loadedChunks.acquire(cx, cz)) {
+                        world.loadChunk(cx, cz);
+                    }
+                    chunks[i++] = PositionUtil.getChunkKey(cx, cz);
                 }
             }
 
         } else {
-            chunk.load();
-            getGameWorld().getLoadedChunks().add(chunk);
+            if (loadedChunks.acquire(chunkX, chunkZ)) {
+                world.loadChunk(chunkX, chunkZ);
+            }
+            chunks = new long[]{PositionUtil.getChunkKey(chunkX, chunkZ)};
         }
 
         getSign().getBlock().setType(Material.AIR);
     }
 
+    @Override
+    public void remove() {
+        World world = getGameWorld().getWorld();
+        LoadedChunks loadedChunks = getGameWorld().getLoadedChunkReferences();
+        for (long key : chunks) {
+            int cx = PositionUtil.getChunkX(key), cz = PositionUtil.getChunkZ(key);
+            if (loadedChunks.release(cx, cz) && world != null) {
+                world.unloadChunkRequest(cx, cz);
+            }
+        }
+        chunks = new long[0];
+
+        super.remove();
+    }
+
     @Override
     public DSignType getType() {
         return type;
@@ -190,7 +190,7 @@ public abstract class DSign {
         for (Trigger trigger : triggers) {
             trigger.removeListener(this);
         }
-        gameWorld.getDSigns().remove(this);
+        gameWorld.removeDSign(this);
     }
 
     public boolean hasTriggers() {
@@ -51,7 +51,7 @@ public class ScriptSign extends DSign {
         SignScript script = plugin.getSignScripts().getByName(name);
         for (String[] lines : script.getSigns()) {
             DSign dSign = DSign.create(getSign(), lines, getGameWorld());
-            getGameWorld().getDSigns().add(dSign);
+            getGameWorld().addDSign(dSign);
 
             dSign.onInit();
             if (!dSign.hasTriggers()) {
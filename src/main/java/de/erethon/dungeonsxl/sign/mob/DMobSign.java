@@ -20,10 +20,17 @@ import de.erethon.commons.misc.NumberUtil;
 import de.erethon.dungeonsxl.sign.DSign;
 import de.erethon.dungeonsxl.sign.DSignType;
 import de.erethon.dungeonsxl.sign.DSignTypeDefault;
+import de.erethon.dungeonsxl.mob.DMob;
+import de.erethon.dungeonsxl.mob.DMobType;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Sign;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Skeleton;
+import org.bukkit.entity.Skeleton.SkeletonType;
+import org.bukkit.inventory.ItemStack;
 
 /**
  * @author Frank Baumann, Milan Albrecht, Daniel Saukel
@@ -40,7 +47,10 @@ public class DMobSign extends DSign implements MobSign {
     private int initialAmount = 1;
     private boolean initialized;
     private boolean active;
-    private BukkitTask task;
+
+    // Resolved from the mob name when the sign is initialized
+    private EntityType entityType;
+    private DMobType mobType;
 
     public DMobSign(Sign sign, String[] lines, DGameWorld gameWorld) {
         super(sign, lines, gameWorld);
@@ -94,6 +104,7 @@ public class DMobSign extends DSign implements MobSign {
     @Override
     public void setInitialAmount(int initialAmount) {
         this.initialAmount = initialAmount;
+        getGameWorld().invalidateMobCount();
     }
 
     @Override
@@ -117,18 +128,36 @@ public class DMobSign extends DSign implements MobSign {
     }
 
     @Override
-    public BukkitTask getTask() {
-        return task;
+    public void initializeTask() {
+        getGameWorld().getMobSpawnScheduler().schedule(this);
     }
 
     @Override
-    public void setTask(BukkitTask task) {
-        this.task = task;
-    }
+    public void spawn() {
+        Location spawnLoc = getSign().getLocation().add(0.5, 0, 0.5);
 
-    @Override
-    public void initializeTask() {
-        task = new MobSpawnTask(this).runTaskTimer(plugin, 0L, 20L);
+        // Check normal mobs
+        if (entityType != null) {
+            LivingEntity entity = (LivingEntity) spawnLoc.getWorld().spawnEntity(spawnLoc, entityType);
+
+            // Add Bow to normal Skeletons
+            if (entity.getType() == EntityType.SKELETON) {
+                Skeleton skeleton = (Skeleton) entity;
+                if (skeleton.getSkeletonType() == SkeletonType.NORMAL) {
+                    skeleton.getEquipment().setItemInHand(new ItemStack(Material.BOW));
+                }
+            }
+
+            // Disable Despawning
+            entity.setRemoveWhenFarAway(false);
+
+            new DMob(entity, getGameWorld(), null);
+        }
+
+        // Check custom mobs
+        if (mobType != null) {
+            mobType.spawn(getGameWorld(), spawnLoc);
+        }
     }
 
     @Override
@@ -160,7 +189,13 @@ public class DMobSign extends DSign implements MobSign {
                     this.mob = mob;
                     maxInterval = NumberUtil.parseInt(attributes[0]);
                     amount = NumberUtil.parseInt(attributes[1]);
-                    initialAmount = amount;
+                    setInitialAmount(amount);
+
+                    entityType = EntityType.fromName(mob);
+                    if (entityType != null && !entityType.isAlive()) {
+                        entityType = null;
+                    }
+                    mobType = plugin.getDMobTypes().getByName(mob);
                 }
             }
         }
@@ -196,10 +231,7 @@ public class DMobSign extends DSign implements MobSign {
             return;
         }
 
-        if (task != null) {
-            task.cancel();
-            task = null;
-        }
+        getGameWorld().getMobSpawnScheduler().unschedule(this);
     }
 
     @Override
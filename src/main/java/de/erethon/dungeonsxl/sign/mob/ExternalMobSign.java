@@ -17,6 +17,7 @@
 package de.erethon.dungeonsxl.sign.mob;
 
 import de.erethon.commons.misc.NumberUtil;
+import de.erethon.dungeonsxl.mob.DMob;
 import de.erethon.dungeonsxl.mob.ExternalMobPlugin;
 import de.erethon.dungeonsxl.mob.ExternalMobProvider;
 import de.erethon.dungeonsxl.sign.DSign;
@@ -31,7 +32,6 @@ import org.bukkit.block.Sign;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 /**
  * @author Frank Baumann, Milan Albrecht, Daniel Saukel
@@ -49,7 +49,6 @@ public class ExternalMobSign extends DSign implements MobSign {
     private int initialAmount = 1;
     private boolean initialized;
     private boolean active;
-    private BukkitTask task;
     private Location spawnLocation;
     private LivingEntity externalMob;
     private List<Entity> externalMobs = new ArrayList<>();
@@ -106,6 +105,7 @@ public class ExternalMobSign extends DSign implements MobSign {
     @Override
     public void setInitialAmount(int initialAmount) {
         this.initialAmount = initialAmount;
+        getGameWorld().invalidateMobCount();
     }
 
     @Override
@@ -129,18 +129,20 @@ public class ExternalMobSign extends DSign implements MobSign {
     }
 
     @Override
-    public BukkitTask getTask() {
-        return task;
+    public void initializeTask() {
+        getGameWorld().getMobSpawnScheduler().schedule(this);
     }
 
     @Override
-    public void setTask(BukkitTask task) {
-        this.task = task;
-    }
+    public void spawn() {
+        spawnLocation = getSign().getLocation().add(0.5, 0, 0.5);
 
-    @Override
-    public void initializeTask() {
-        task = new ExternalMobSpawnTask(this, provider).runTaskTimer(plugin, 0L, 20L);
+        provider.summon(mob, spawnLocation);
+
+        setExternalMobs();
+        if (externalMob != null) {
+            new DMob(externalMob, getGameWorld(), null, mob);
+        }
     }
 
     /**
@@ -224,7 +226,7 @@ public class ExternalMobSign extends DSign implements MobSign {
                 this.setMob(mob);
                 setMaxInterval(NumberUtil.parseInt(attributes[0]));
                 setAmount(NumberUtil.parseInt(attributes[1]));
-                initialAmount = amount;
+                setInitialAmount(amount);
 
                 if (attributes.length == 3) {
                     provider = plugin.getExternalMobProviders().getByIdentifier(attributes[2]);
@@ -271,10 +273,7 @@ public class ExternalMobSign extends DSign implements MobSign {
             return;
         }
 
-        if (task != null) {
-            task.cancel();
-            task = null;
-        }
+        getGameWorld().getMobSpawnScheduler().unschedule(this);
     }
 
     public void setExternalMobs() {
@@ -23,8 +23,10 @@ import org.bukkit.World;
 import org.bukkit.scheduler.BukkitRunnable;
 
 /**
+ * @deprecated The spawns of mob signs are scheduled by the {@link MobSpawnScheduler} of the game world.
  * @author Frank Baumann, Daniel Saukel
  */
+@Deprecated
 public class ExternalMobSpawnTask extends BukkitRunnable {
 
     private ExternalMobSign sign;
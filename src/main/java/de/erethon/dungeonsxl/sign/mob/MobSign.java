@@ -101,19 +101,34 @@ public interface MobSign {
     public void setActive(boolean active);
 
     /**
-     * @return the spawn task
+     * @deprecated The spawns are scheduled by the {@link MobSpawnScheduler} of the game world.
+     * @return the spawn task or null if the sign is driven by the scheduler
      */
-    public BukkitTask getTask();
+    @Deprecated
+    public default BukkitTask getTask() {
+        return null;
+    }
 
     /**
+     * @deprecated The spawns are scheduled by the {@link MobSpawnScheduler} of the game world.
      * @param task
      * the task to set
      */
-    public void setTask(BukkitTask task);
+    @Deprecated
+    public default void setTask(BukkitTask task) {
+    }
 
     /**
-     * Start a new spawn task.
+     * Schedule the spawns of the sign in the {@link MobSpawnScheduler} of the game world.
      */
     public void initializeTask();
 
+    /**
+     * Spawn the mob once. Called by the {@link MobSpawnScheduler}.
+     * <p>
+     * Signs that still spawn their mobs with their own task are never scheduled, so the default implementation does nothing.
+     */
+    public default void spawn() {
+    }
+
 }
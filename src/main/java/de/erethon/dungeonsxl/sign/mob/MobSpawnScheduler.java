@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.sign.mob;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drives the mob signs of a game world.
+ * <p>
+ * Scheduled signs are kept in a hashed timing wheel with one slot per tick, so only the signs that are due are visited.
+ * The scheduler is ticked by the {@link MobSpawnSchedulerTask}, which shares the budget of
+ * {@link de.erethon.dungeonsxl.config.MainConfig#getMobSpawnBudget()} between all game worlds.
+ * Spawns that do not fit into the budget are carried over to the next tick.
+ *
+ * @author agent
+ */
+public class MobSpawnScheduler {
+
+    /**
+     * The amount of ticks per interval unit of a mob sign
+     */
+    public static final int TICKS_PER_INTERVAL = 20;
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private long tick;
+    @SuppressWarnings("unchecked")
+    private List<Entry>[] wheel = new List[WHEEL_SIZE];
+    private List<Entry> due = new ArrayList<>();
+    private Map<MobSign, Entry> entries = new HashMap<>();
+
+    public MobSpawnScheduler() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * @return the amount of scheduled signs
+     */
+    public int getScheduledSigns() {
+        return entries.size();
+    }
+
+    /**
+     * Schedules the first spawn of the sign for the next tick.
+     *
+     * @param sign
+     * the sign to schedule
+     */
+    public void schedule(MobSign sign) {
+        unschedule(sign);
+        Entry entry = new Entry(sign);
+        entries.put(sign, entry);
+        insert(entry, tick + 1);
+    }
+
+    /**
+     * @param sign
+     * the sign that shall not spawn any more mobs
+     */
+    public void unschedule(MobSign sign) {
+        Entry entry = entries.remove(sign);
+        if (entry != null) {
+            entry.cancelled = true;
+        }
+    }
+
+    /**
+     * @param sign
+     * the sign to check
+     * @return if the sign is scheduled
+     */
+    public boolean isScheduled(MobSign sign) {
+        return entries.containsKey(sign);
+    }
+
+    /**
+     * Cancels all scheduled spawns.
+     */
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            entry.cancelled = true;
+        }
+        entries.clear();
+    }
+
+    /**
+     * Advances the scheduler by one tick.
+     *
+     * @param allowance
+     * the maximum amount of mobs to spawn in this tick
+     * @return the amount of mobs that have been spawned
+     */
+    int tick(int allowance) {
+        tick++;
+
+        // Swap the slot with the empty buffer so that entries can be rescheduled into the same slot
+        int index = (int) (tick & WHEEL_MASK);
+        List<Entry> slot = wheel[index];
+        wheel[index] = due;
+        due = slot;
+
+        int spawned = 0;
+        for (Entry entry : due) {
+            if (entry.cancelled) {
+                continue;
+            }
+            if (entry.dueTick > tick) {
+                wheel[index].add(entry);
+                continue;
+            }
+            if (spawned >= allowance) {
+                insert(entry, tick + 1);
+                continue;
+            }
+
+            spawned++;
+            spawn(entry);
+        }
+        due.clear();
+        return spawned;
+    }
+
+    private void spawn(Entry entry) {
+        MobSign sign = entry.sign;
+        sign.spawn();
+
+        // The sign might have been disabled by the spawn
+        if (entry.cancelled) {
+            return;
+        }
+
+        if (sign.getAmount() != -1) {
+            if (sign.getAmount() > 1) {
+                sign.setAmount(sign.getAmount() - 1);
+
+            } else {
+                unschedule(sign);
+                return;
+            }
+        }
+
+        int interval = Math.max(1, sign.getMaxInterval());
+        sign.setInterval(interval);
+        insert(entry, tick + interval * TICKS_PER_INTERVAL);
+    }
+
+    private void insert(Entry entry, long dueTick) {
+        entry.dueTick = dueTick;
+        wheel[(int) (dueTick & WHEEL_MASK)].add(entry);
+    }
+
+    private static class Entry {
+
+        MobSign sign;
+        long dueTick;
+        boolean cancelled;
+
+        Entry(MobSign sign) {
+            this.sign = sign;
+        }
+
+    }
+
+}
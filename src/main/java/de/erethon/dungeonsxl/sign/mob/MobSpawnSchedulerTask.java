@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.sign.mob;
+
+import de.erethon.dungeonsxl.config.MainConfig;
+import java.util.Arrays;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Ticks the {@link MobSpawnScheduler}s of all game worlds.
+ * <p>
+ * The budget of {@link MainConfig#getMobSpawnBudget()} is shared by all schedulers. The scheduler that is ticked first
+ * rotates every tick so that one world cannot use up the budget of the others.
+ *
+ * @author agent
+ */
+public class MobSpawnSchedulerTask extends BukkitRunnable {
+
+    private MainConfig config;
+
+    private MobSpawnScheduler[] schedulers = new MobSpawnScheduler[0];
+    private int offset;
+
+    public MobSpawnSchedulerTask(MainConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @param scheduler
+     * the scheduler to tick
+     */
+    public void register(MobSpawnScheduler scheduler) {
+        MobSpawnScheduler[] schedulers = Arrays.copyOf(this.schedulers, this.schedulers.length + 1);
+        schedulers[schedulers.length - 1] = scheduler;
+        this.schedulers = schedulers;
+    }
+
+    /**
+     * Removes the scheduler and cancels its scheduled spawns.
+     *
+     * @param scheduler
+     * the scheduler to remove
+     */
+    public void unregister(MobSpawnScheduler scheduler) {
+        scheduler.clear();
+        MobSpawnScheduler[] schedulers = this.schedulers;
+        for (int i = 0; i < schedulers.length; i++) {
+            if (schedulers[i] == scheduler) {
+                MobSpawnScheduler[] remaining = new MobSpawnScheduler[schedulers.length - 1];
+                System.arraycopy(schedulers, 0, remaining, 0, i);
+                System.arraycopy(schedulers, i + 1, remaining, i, remaining.length - i);
+                this.schedulers = remaining;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        // Schedulers that are removed while spawning are cleared and therefore do not spawn anything
+        MobSpawnScheduler[] schedulers = this.schedulers;
+        if (schedulers.length == 0) {
+            return;
+        }
+
+        int budget = config.getMobSpawnBudget();
+        int remaining = budget > 0 ? budget : Integer.MAX_VALUE;
+        offset = (offset + 1) % schedulers.length;
+        for (int i = 0; i < schedulers.length; i++) {
+            remaining -= schedulers[(offset + i) % schedulers.length].tick(remaining);
+        }
+    }
+
+}
@@ -31,8 +31,10 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 
 /**
+ * @deprecated The spawns of mob signs are scheduled by the {@link MobSpawnScheduler} of the game world.
  * @author Frank Baumann, Daniel Saukel
  */
+@Deprecated
 public class MobSpawnTask extends BukkitRunnable {
 
     private DMobSign sign;
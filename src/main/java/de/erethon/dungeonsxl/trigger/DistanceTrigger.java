@@ -18,6 +18,7 @@ package de.erethon.dungeonsxl.trigger;
 
 import de.erethon.dungeonsxl.event.trigger.TriggerActionEvent;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import java.util.List;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -43,6 +44,20 @@ public class DistanceTrigger extends Trigger {
         this.loc = loc;
     }
 
+    /**
+     * @return the distance in blocks
+     */
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * @return the center location
+     */
+    public Location getLocation() {
+        return loc;
+    }
+
     public void onTrigger(Player player) {
         TriggerActionEvent event = new TriggerActionEvent(this);
         Bukkit.getPluginManager().callEvent(event);
@@ -63,13 +78,20 @@ public class DistanceTrigger extends Trigger {
 
     /* Statics */
     public static void triggerAllInDistance(Player player, DGameWorld gameWorld) {
-        if (!player.getLocation().getWorld().equals(gameWorld.getWorld())) {
+        Location location = player.getLocation();
+        if (!location.getWorld().equals(gameWorld.getWorld())) {
+            return;
+        }
+
+        List<DistanceTrigger> triggers = gameWorld.getDistanceTriggers(location);
+        if (triggers == null) {
             return;
         }
 
-        for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.DISTANCE)) {
-            DistanceTrigger trigger = (DistanceTrigger) uncasted;
-            if (player.getLocation().distance(trigger.loc) < trigger.distance) {
+        double x = location.getX(), y = location.getY(), z = location.getZ();
+        for (DistanceTrigger trigger : triggers) {
+            double dx = x - trigger.loc.getX(), dy = y - trigger.loc.getY(), dz = z - trigger.loc.getZ();
+            if (dx * dx + dy * dy + dz * dz < trigger.distance * trigger.distance) {
                 trigger.onTrigger(player);
             }
         }
@@ -50,6 +50,20 @@ public class InteractTrigger extends Trigger {
         updateDSigns();
     }
 
+    /**
+     * @return the ID of the trigger
+     */
+    public int getId() {
+        return interactId;
+    }
+
+    /**
+     * @return the block the trigger is bound to
+     */
+    public Block getInteractBlock() {
+        return interactBlock;
+    }
+
     @Override
     public TriggerType getType() {
         return type;
@@ -70,32 +84,22 @@ public class InteractTrigger extends Trigger {
     public static InteractTrigger getOrCreate(int id, Block block, DGameWorld gameWorld) {
         InteractTrigger trigger = getById(id, gameWorld);
         if (trigger != null) {
+            // Re-register the trigger so that it is indexed by its new block
+            gameWorld.removeTrigger(trigger);
             trigger.interactBlock = block;
+            gameWorld.addTrigger(trigger);
             return trigger;
         }
         return new InteractTrigger(id, block);
     }
 
     public static InteractTrigger getByBlock(Block block, DGameWorld gameWorld) {
-        for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.INTERACT)) {
-            InteractTrigger trigger = (InteractTrigger) uncasted;
-            if (trigger.interactBlock != null) {
-                if (trigger.interactBlock.equals(block)) {
-                    return trigger;
-                }
-            }
-        }
-        return null;
+        return gameWorld.getInteractTrigger(block);
     }
 
     public static InteractTrigger getById(int id, DGameWorld gameWorld) {
         if (id != 0) {
-            for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.INTERACT)) {
-                InteractTrigger trigger = (InteractTrigger) uncasted;
-                if (trigger.interactId == id) {
-                    return trigger;
-                }
-            }
+            return gameWorld.getInteractTrigger(id);
         }
         return null;
     }
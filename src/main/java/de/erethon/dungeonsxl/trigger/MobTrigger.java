@@ -45,6 +45,13 @@ public class MobTrigger extends Trigger {
         updateDSigns();
     }
 
+    /**
+     * @return the name of the mob
+     */
+    public String getName() {
+        return name;
+    }
+
     @Override
     public TriggerType getType() {
         return type;
@@ -60,13 +67,7 @@ public class MobTrigger extends Trigger {
     }
 
     public static MobTrigger getByName(String name, DGameWorld gameWorld) {
-        for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.MOB)) {
-            MobTrigger trigger = (MobTrigger) uncasted;
-            if (trigger.name.equalsIgnoreCase(name)) {
-                return trigger;
-            }
-        }
-        return null;
+        return gameWorld.getMobTrigger(name);
     }
 
 }
@@ -21,6 +21,7 @@ import de.erethon.dungeonsxl.event.trigger.TriggerActionEvent;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import de.erethon.dungeonsxl.world.DResourceWorld;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.bukkit.Bukkit;
 
@@ -135,4 +136,15 @@ public class ProgressTrigger extends Trigger {
         return toReturn;
     }
 
+    /**
+     * @param gameWorld
+     * the game world
+     * @return an unmodifiable view of the ProgressTriggers in the DGameWorld that does not need to be copied
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ProgressTrigger> getListByGameWorld(DGameWorld gameWorld) {
+        // The index only contains triggers of the type
+        return (List<ProgressTrigger>) (List<?>) gameWorld.getTriggers(TriggerTypeDefault.PROGRESS);
+    }
+
 }
@@ -18,6 +18,7 @@ package de.erethon.dungeonsxl.trigger;
 
 import de.erethon.dungeonsxl.event.trigger.TriggerActionEvent;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import java.util.List;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -37,6 +38,13 @@ public class RedstoneTrigger extends Trigger {
         rtBlock = block;
     }
 
+    /**
+     * @return the block that is checked for power
+     */
+    public Block getBlock() {
+        return rtBlock;
+    }
+
     public void onTrigger() {
         TriggerActionEvent event = new TriggerActionEvent(this);
         Bukkit.getPluginManager().callEvent(event);
@@ -86,10 +94,12 @@ public class RedstoneTrigger extends Trigger {
         }
 
         if (rtBlock != null) {
-            for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.REDSTONE)) {
-                RedstoneTrigger trigger = (RedstoneTrigger) uncasted;
-                if (trigger.rtBlock.equals(rtBlock)) {
-                    return trigger;
+            List<RedstoneTrigger> watching = gameWorld.getRedstoneTriggers(rtBlock);
+            if (watching != null) {
+                for (RedstoneTrigger trigger : watching) {
+                    if (trigger.rtBlock.equals(rtBlock)) {
+                        return trigger;
+                    }
                 }
             }
             return new RedstoneTrigger(rtBlock);
@@ -47,6 +47,13 @@ public class SignTrigger extends Trigger {
         }
     }
 
+    /**
+     * @return the ID of the trigger
+     */
+    public int getId() {
+        return stId;
+    }
+
     @Override
     public TriggerType getType() {
         return type;
@@ -62,13 +69,7 @@ public class SignTrigger extends Trigger {
     }
 
     public static SignTrigger getById(int id, DGameWorld gameWorld) {
-        for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.SIGN)) {
-            SignTrigger trigger = (SignTrigger) uncasted;
-            if (trigger.stId == id) {
-                return trigger;
-            }
-        }
-        return null;
+        return gameWorld.getSignTrigger(id);
     }
 
 }
@@ -18,28 +18,72 @@ package de.erethon.dungeonsxl.trigger;
 
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.world.DGameWorld;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.block.Block;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockRedstoneEvent;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
 /**
  * @author Milan Albrecht, Daniel Saukel
  */
 public class TriggerListener implements Listener {
 
+    DungeonsXL plugin = DungeonsXL.getInstance();
+
+    private Map<RedstoneTrigger, DGameWorld> pendingRedstoneTriggers = new LinkedHashMap<>();
+    private BukkitTask redstoneTask;
+
     @EventHandler
-    public void onRedstoneEvent(final BlockRedstoneEvent event) {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                for (DGameWorld gameWorld : DungeonsXL.getInstance().getDWorlds().getGameWorlds()) {
-                    if (event.getBlock().getWorld() == gameWorld.getWorld()) {
-                        RedstoneTrigger.updateAll(gameWorld);
-                    }
+    public void onRedstoneEvent(BlockRedstoneEvent event) {
+        Block block = event.getBlock();
+        DGameWorld gameWorld = DGameWorld.getByWorld(block.getWorld());
+        if (gameWorld == null) {
+            return;
+        }
+
+        List<RedstoneTrigger> triggers = gameWorld.getRedstoneTriggers(block);
+        if (triggers == null) {
+            return;
+        }
+
+        for (RedstoneTrigger trigger : triggers) {
+            pendingRedstoneTriggers.put(trigger, gameWorld);
+        }
+
+        // All changes of one tick are evaluated together when the block states have settled
+        if (redstoneTask == null) {
+            redstoneTask = new BukkitRunnable() {
+                @Override
+                public void run() {
+                    updateRedstoneTriggers();
                 }
+            }.runTaskLater(plugin, 1);
+        }
+    }
+
+    /**
+     * Re-checks the power state of all redstone triggers whose watched blocks changed since the last update.
+     */
+    public void updateRedstoneTriggers() {
+        redstoneTask = null;
+        if (pendingRedstoneTriggers.isEmpty()) {
+            return;
+        }
+
+        Map<RedstoneTrigger, DGameWorld> pending = pendingRedstoneTriggers;
+        pendingRedstoneTriggers = new LinkedHashMap<>();
+
+        for (Map.Entry<RedstoneTrigger, DGameWorld> entry : pending.entrySet()) {
+            // The instance might have been unloaded in the meantime
+            if (plugin.getDWorlds().getInstances().contains(entry.getValue())) {
+                entry.getKey().onTrigger();
             }
-        }.runTaskLater(DungeonsXL.getInstance(), 1);
+        }
     }
 
 }
@@ -53,6 +53,20 @@ public class UseItemTrigger extends Trigger {
         updateDSigns();
     }
 
+    /**
+     * @return the name of the item
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the name of the material that matches the item name or null
+     */
+    public String getMatchedName() {
+        return matchedName;
+    }
+
     @Override
     public TriggerType getType() {
         return type;
@@ -68,17 +82,7 @@ public class UseItemTrigger extends Trigger {
     }
 
     public static UseItemTrigger getByName(String name, DGameWorld gameWorld) {
-        for (Trigger uncasted : gameWorld.getTriggers(TriggerTypeDefault.USE_ITEM)) {
-            UseItemTrigger trigger = (UseItemTrigger) uncasted;
-            if (trigger.name.equalsIgnoreCase(name)) {
-                return trigger;
-            } else if (trigger.matchedName != null) {
-                if (trigger.matchedName.equalsIgnoreCase(name)) {
-                    return trigger;
-                }
-            }
-        }
-        return null;
+        return gameWorld.getUseItemTrigger(name);
     }
 
 }
@@ -19,6 +19,7 @@ package de.erethon.dungeonsxl.trigger;
 import de.erethon.dungeonsxl.event.trigger.TriggerActionEvent;
 import de.erethon.dungeonsxl.world.DGameWorld;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.bukkit.Bukkit;
 
@@ -84,4 +85,15 @@ public class WaveTrigger extends Trigger {
         return toReturn;
     }
 
+    /**
+     * @param gameWorld
+     * the game world
+     * @return an unmodifiable view of the WaveTriggers in the DGameWorld that does not need to be copied
+     */
+    @SuppressWarnings("unchecked")
+    public static List<WaveTrigger> getListByGameWorld(DGameWorld gameWorld) {
+        // The index only contains triggers of the type
+        return (List<WaveTrigger>) (List<?>) gameWorld.getTriggers(TriggerTypeDefault.WAVE);
+    }
+
 }
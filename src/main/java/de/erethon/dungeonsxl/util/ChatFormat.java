@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.util;
+
+import de.erethon.dungeonsxl.player.DGroup;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A chat format that is split into literal text and {@link ParsingUtil} placeholders once, so that formatting a message only appends strings.
+ *
+ * @author agent
+ */
+public class ChatFormat {
+
+    private String[] literals;
+    private ParsingUtil[] placeholders;
+
+    /**
+     * @param format
+     * the format that contains the placeholders
+     */
+    public ChatFormat(String format) {
+        List<String> literals = new ArrayList<>();
+        List<ParsingUtil> placeholders = new ArrayList<>();
+
+        int start = 0;
+        int i = 0;
+        while (i < format.length()) {
+            ParsingUtil placeholder = getPlaceholderAt(format, i);
+            if (placeholder == null) {
+                i++;
+                continue;
+            }
+            literals.add(format.substring(start, i));
+            placeholders.add(placeholder);
+            i += placeholder.getPlaceholder().length();
+            start = i;
+        }
+        literals.add(format.substring(start));
+
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.placeholders = placeholders.toArray(new ParsingUtil[placeholders.size()]);
+    }
+
+    private static ParsingUtil getPlaceholderAt(String format, int index) {
+        if (format.charAt(index) != '%') {
+            return null;
+        }
+        for (ParsingUtil placeholder : ParsingUtil.values()) {
+            if (format.startsWith(placeholder.getPlaceholder(), index)) {
+                return placeholder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param playerName
+     * the name of the player who sends the message
+     * @param group
+     * the group of the player who sends the message; may be null
+     * @return the formatted prefix of the message
+     */
+    public String format(String playerName, DGroup group) {
+        String groupColor = group != null ? group.getDColor().getChatColor().toString() : "";
+        String groupName = group != null ? group.getName() : "";
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            switch (placeholders[i]) {
+                case GROUP_COLOR:
+                    builder.append(groupColor);
+                    break;
+                case GROUP_NAME:
+                    builder.append(groupName);
+                    break;
+                case PLAYER_NAME:
+                    builder.append(playerName);
+                    break;
+            }
+        }
+        builder.append(literals[literals.length - 1]);
+        return builder.toString();
+    }
+
+}
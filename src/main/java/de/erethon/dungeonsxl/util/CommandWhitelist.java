@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable, case insensitive prefix tree of whitelisted commands.
+ * <p>
+ * A command is allowed if it equals a whitelisted entry or starts with an entry followed by a space. The commands of DungeonsXL itself are
+ * always allowed.
+ *
+ * @author agent
+ */
+public class CommandWhitelist {
+
+    /**
+     * The aliases of the DungeonsXL command that are always allowed
+     */
+    public static final String[] DEFAULT_ENTRIES = {"dungeonsxl", "dungeon", "dxl"};
+
+    /**
+     * A whitelist that only contains the {@link #DEFAULT_ENTRIES}
+     */
+    public static final CommandWhitelist DEFAULT = new CommandWhitelist(null);
+
+    private Node root = new Node();
+
+    /**
+     * @param entries
+     * the whitelisted commands without the leading slash; may be null
+     */
+    public CommandWhitelist(Collection<String> entries) {
+        for (String entry : DEFAULT_ENTRIES) {
+            add(entry);
+        }
+        if (entries != null) {
+            for (String entry : entries) {
+                if (entry != null) {
+                    add(entry);
+                }
+            }
+        }
+    }
+
+    private void add(String entry) {
+        Node node = root;
+        for (int i = 0; i < entry.length(); i++) {
+            node = node.getOrCreate(Character.toLowerCase(entry.charAt(i)));
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * @param command
+     * the command message including the leading slash
+     * @return if the command is whitelisted
+     */
+    public boolean isAllowed(String command) {
+        if (command.isEmpty() || command.charAt(0) != '/') {
+            return false;
+        }
+
+        Node node = root;
+        for (int i = 1; i < command.length(); i++) {
+            char c = command.charAt(i);
+            if (c == ' ' && node.terminal) {
+                return true;
+            }
+            node = node.get(Character.toLowerCase(c));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    private static class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        private Node get(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrCreate(char key) {
+            Node child = get(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A hash set of primitive longs that does not box its elements.
+ *
+ * @author agent
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize
+     * the amount of elements the set should be able to hold without resizing
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * 3 / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        elements = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return the amount of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return if the set has no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param element
+     * the element
+     * @return if the set contains the element
+     */
+    public boolean contains(long element) {
+        int i = index(element);
+        while (used[i]) {
+            if (elements[i] == element) {
+                return true;
+            }
+            i = i + 1 & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @param element
+     * the element to add
+     * @return if the set did not already contain the element
+     */
+    public boolean add(long element) {
+        int i = index(element);
+        while (used[i]) {
+            if (elements[i] == element) {
+                return false;
+            }
+            i = i + 1 & mask;
+        }
+
+        elements[i] = element;
+        used[i] = true;
+        if (++size > (mask + 1) * 3 / 4) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * @param element
+     * the element to remove
+     * @return if the set contained the element
+     */
+    public boolean remove(long element) {
+        int i = index(element);
+        while (used[i]) {
+            if (elements[i] == element) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = i + 1 & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * @param action
+     * called for each element
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                action.accept(elements[i]);
+            }
+        }
+    }
+
+    private int index(long element) {
+        long hash = element * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & mask;
+    }
+
+    private void shiftBack(int free) {
+        int i = free;
+        while (true) {
+            i = i + 1 & mask;
+            if (!used[i]) {
+                break;
+            }
+            int home = index(elements[i]);
+            // Move the element into the free slot unless its home lies cyclically in (free, i]
+            if (free <= i ? free < home && home <= i : free < home || home <= i) {
+                continue;
+            }
+            elements[free] = elements[i];
+            free = i;
+        }
+        used[free] = false;
+    }
+
+    private void resize() {
+        long[] oldElements = elements;
+        boolean[] oldUsed = used;
+        elements = new long[oldElements.length << 1];
+        used = new boolean[oldUsed.length << 1];
+        mask = elements.length - 1;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i]) {
+                continue;
+            }
+            int j = index(oldElements[i]);
+            while (used[j]) {
+                j = j + 1 & mask;
+            }
+            elements[j] = oldElements[i];
+            used[j] = true;
+        }
+    }
+
+}
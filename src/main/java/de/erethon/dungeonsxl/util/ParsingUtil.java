@@ -57,12 +57,7 @@ public enum ParsingUtil {
      * the DGlobalPlayer who sent the message
      */
     public static String replaceChatPlaceholders(String string, DGlobalPlayer sender) {
-        DGroup group = DGroup.getByPlayer(sender.getPlayer());
-
-        string = string.replaceAll(PLAYER_NAME.getPlaceholder(), sender.getName());
-        string = string.replaceAll(GROUP_COLOR.getPlaceholder(), group.getDColor().getChatColor().toString());
-        string = string.replaceAll(GROUP_NAME.getPlaceholder(), group.getName());
-        return string;
+        return new ChatFormat(string).format(sender.getName(), DGroup.getByPlayer(sender.getPlayer()));
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.util;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+
+/**
+ * Packs block and chunk coordinates into primitive long keys.
+ *
+ * @author agent
+ */
+public class PositionUtil {
+
+    /**
+     * @param chunkX
+     * the chunk x coordinate
+     * @param chunkZ
+     * the chunk z coordinate
+     * @return a key that identifies the chunk within its world
+     */
+    public static long getChunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * @param chunk
+     * the chunk
+     * @return a key that identifies the chunk within its world
+     */
+    public static long getChunkKey(Chunk chunk) {
+        return getChunkKey(chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * @param block
+     * a block inside of the chunk
+     * @return a key that identifies the chunk of the block within its world
+     */
+    public static long getChunkKey(Block block) {
+        return getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+    }
+
+    /**
+     * @param key
+     * a chunk key
+     * @return the chunk x coordinate
+     */
+    public static int getChunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * @param key
+     * a chunk key
+     * @return the chunk z coordinate
+     */
+    public static int getChunkZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * @param x
+     * the block x coordinate
+     * @param y
+     * the block y coordinate
+     * @param z
+     * the block z coordinate
+     * @return a key that identifies the block within its world
+     */
+    public static long getBlockKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | y & 0xFFF;
+    }
+
+    /**
+     * @param block
+     * the block
+     * @return a key that identifies the block within its world
+     */
+    public static long getBlockKey(Block block) {
+        return getBlockKey(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * @param location
+     * the location
+     * @return a key that identifies the block at the location within its world
+     */
+    public static long getBlockKey(Location location) {
+        return getBlockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+}
@@ -29,7 +29,6 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * A raw resource world instance to edit the dungeon map.
@@ -121,19 +120,17 @@ public class DEditWorld extends DInstanceWorld {
 
         getWorld().save();
 
-        if (!plugin.getMainConfig().areTweaksEnabled()) {
+        Runnable copy = () -> {
             FileUtil.copyDir(getFolder(), getResource().getFolder(), DungeonsXL.EXCLUDED_FILES);
             DWorldCache.deleteUnusedFiles(getResource().getFolder());
-
+        };
+        if (worlds.isAsyncLifecycleAvailable()) {
+            worlds.getIOExecutor().execute(copy);
         } else {
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    FileUtil.copyDir(getFolder(), getResource().getFolder(), DungeonsXL.EXCLUDED_FILES);
-                    DWorldCache.deleteUnusedFiles(getResource().getFolder());
-                }
-            }.runTaskAsynchronously(plugin);
+            copy.run();
         }
+        // The pooled copies are outdated; new ones are copied by the I/O thread after the changes
+        worlds.getInstancePool().clear(getResource());
 
         getResource().getSignData().serializeSigns(signs);
     }
@@ -150,6 +147,12 @@ public class DEditWorld extends DInstanceWorld {
      * whether this world should be saved
      */
     public void delete(final boolean save) {
+        if (!exists()) {
+            // The instance is still being instantiated, so nobody can have edited it yet
+            unloadAndDelete(false, null);
+            return;
+        }
+
         EditWorldUnloadEvent event = new EditWorldUnloadEvent(this, true);
         Bukkit.getPluginManager().callEvent(event);
 
@@ -162,35 +165,14 @@ public class DEditWorld extends DInstanceWorld {
             dPlayer.leave();
         }
 
-        if (!plugin.getMainConfig().areTweaksEnabled()) {
-            if (save) {
-                Bukkit.unloadWorld(getWorld(), true);
-            }
+        // If the world is not saved, the files on the disk still contain the state of the last save
+        unloadAndDelete(save, () -> {
             FileUtil.copyDir(getFolder(), getResource().getFolder(), DungeonsXL.EXCLUDED_FILES);
             DWorldCache.deleteUnusedFiles(getResource().getFolder());
-            if (!save) {
-                Bukkit.unloadWorld(getWorld(), true);
-            }
-            FileUtil.removeDir(getFolder());
-            worlds.removeInstance(this);
-
-        } else {
-            final DEditWorld editWorld = this;
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (save) {
-                        Bukkit.unloadWorld(getWorld(), true);
-                    }
-                    FileUtil.copyDir(getFolder(), getResource().getFolder(), DungeonsXL.EXCLUDED_FILES);
-                    DWorldCache.deleteUnusedFiles(getResource().getFolder());
-                    if (!save) {
-                        Bukkit.unloadWorld(getWorld(), true);
-                    }
-                    FileUtil.removeDir(getFolder());
-                    worlds.removeInstance(editWorld);
-                }
-            }.runTaskAsynchronously(plugin);
+        });
+        // Prepared copies of the map are only outdated if the changes are saved
+        if (save) {
+            worlds.getInstancePool().clear(getResource());
         }
     }
 
@@ -202,7 +184,14 @@ public class DEditWorld extends DInstanceWorld {
      * the DEditWorld that represents the world
      */
     public static DEditWorld getByWorld(World world) {
-        return getByName(world.getName());
+        DInstanceWorld instance = DungeonsXL.getInstance().getDWorlds().getInstanceByWorld(world);
+
+        if (instance instanceof DEditWorld) {
+            return (DEditWorld) instance;
+
+        } else {
+            return null;
+        }
     }
 
     /**
@@ -17,13 +17,12 @@
 package de.erethon.dungeonsxl.world;
 
 import de.erethon.commons.misc.BlockUtil;
-import de.erethon.commons.misc.FileUtil;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.dungeon.Dungeon;
 import de.erethon.dungeonsxl.event.gameworld.GameWorldStartGameEvent;
 import de.erethon.dungeonsxl.event.gameworld.GameWorldUnloadEvent;
+import de.erethon.dungeonsxl.game.CompiledGameRules;
 import de.erethon.dungeonsxl.game.Game;
-import de.erethon.dungeonsxl.game.GameRuleProvider;
 import de.erethon.dungeonsxl.mob.DMob;
 import de.erethon.dungeonsxl.player.DGroup;
 import de.erethon.dungeonsxl.sign.DSign;
@@ -32,12 +31,21 @@ import de.erethon.dungeonsxl.sign.DSignTypeDefault;
 import de.erethon.dungeonsxl.sign.LocationSign;
 import de.erethon.dungeonsxl.sign.lobby.StartSign;
 import de.erethon.dungeonsxl.sign.mob.MobSign;
+import de.erethon.dungeonsxl.sign.mob.MobSpawnScheduler;
+import de.erethon.dungeonsxl.trigger.DistanceTrigger;
 import de.erethon.dungeonsxl.trigger.FortuneTrigger;
+import de.erethon.dungeonsxl.trigger.InteractTrigger;
+import de.erethon.dungeonsxl.trigger.MobTrigger;
 import de.erethon.dungeonsxl.trigger.ProgressTrigger;
 import de.erethon.dungeonsxl.trigger.RedstoneTrigger;
+import de.erethon.dungeonsxl.trigger.SignTrigger;
 import de.erethon.dungeonsxl.trigger.Trigger;
 import de.erethon.dungeonsxl.trigger.TriggerType;
 import de.erethon.dungeonsxl.trigger.TriggerTypeDefault;
+import de.erethon.dungeonsxl.trigger.UseItemTrigger;
+import de.erethon.dungeonsxl.util.LongHashMap;
+import de.erethon.dungeonsxl.util.LongHashSet;
+import de.erethon.dungeonsxl.util.PositionUtil;
 import de.erethon.dungeonsxl.world.block.GameBlock;
 import de.erethon.dungeonsxl.world.block.LockedDoor;
 import de.erethon.dungeonsxl.world.block.MultiBlock;
@@ -47,16 +55,18 @@ import de.erethon.dungeonsxl.world.block.TeamBed;
 import de.erethon.dungeonsxl.world.block.TeamFlag;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -68,7 +78,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Spider;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * A playable resource instance.
@@ -92,7 +101,8 @@ public class DGameWorld extends DInstanceWorld {
     private boolean isPlaying = false;
 
     // TO DO: Which lists actually need to be CopyOnWriteArrayLists?
-    private List<Block> placedBlocks = new LinkedList<>();
+    // Packed coordinates of the blocks placed by players
+    private LongHashSet placedBlocks = new LongHashSet();
 
     private Set<GameBlock> gameBlocks = new HashSet<>();
     private Set<LockedDoor> lockedDoors = new HashSet<>();
@@ -102,12 +112,29 @@ public class DGameWorld extends DInstanceWorld {
     private Set<TeamFlag> teamFlags = new HashSet<>();
 
     private List<ItemStack> secureObjects = new CopyOnWriteArrayList<>();
-    private CopyOnWriteArrayList<Chunk> loadedChunks = new CopyOnWriteArrayList<>();
+    private LoadedChunks loadedChunks = new LoadedChunks();
     private CopyOnWriteArrayList<Sign> classesSigns = new CopyOnWriteArrayList<>();
-    private CopyOnWriteArrayList<DMob> dMobs = new CopyOnWriteArrayList<>();
+    private Map<UUID, DMob> dMobs = new HashMap<>();
     private CopyOnWriteArrayList<DSign> dSigns = new CopyOnWriteArrayList<>();
     private CopyOnWriteArrayList<Trigger> triggers = new CopyOnWriteArrayList<>();
 
+    // Indices of the signs and triggers above; maintained by the add and remove methods
+    private Map<DSignType, List<DSign>> dSignsByType = new HashMap<>();
+    private Map<TriggerType, List<Trigger>> triggersByType = new HashMap<>();
+    private Map<Integer, SignTrigger> signTriggers = new HashMap<>();
+    private Map<Integer, InteractTrigger> interactTriggersById = new HashMap<>();
+    private LongHashMap<InteractTrigger> interactTriggersByBlock = new LongHashMap<>();
+    private Map<String, MobTrigger> mobTriggers = new HashMap<>();
+    private Map<String, UseItemTrigger> useItemTriggers = new HashMap<>();
+    private LongHashMap<List<RedstoneTrigger>> redstoneTriggers = new LongHashMap<>();
+    private LongHashMap<List<DistanceTrigger>> distanceTriggers = new LongHashMap<>();
+
+    private MobSpawnScheduler mobSpawnScheduler;
+
+    // Cached result of getMobCount(); -1 if it needs to be recalculated
+    private int mobCount = -1;
+    private int mobCountFloor;
+
     DGameWorld(DResourceWorld resourceWorld, File folder, World world, int id) {
         super(resourceWorld, folder, world, id);
     }
@@ -122,11 +149,7 @@ public class DGameWorld extends DInstanceWorld {
      */
     public Game getGame() {
         if (game == null) {
-            for (Game game : plugin.getGames()) {
-                if (game.getWorld() == this) {
-                    this.game = game;
-                }
-            }
+            game = plugin.getGameCache().getByGameWorld(this);
         }
 
         return game;
@@ -169,20 +192,18 @@ public class DGameWorld extends DInstanceWorld {
     public Location getStartLocation(DGroup dGroup) {
         int index = getGame().getDGroups().indexOf(dGroup);
 
+        List<DSign> startSigns = getDSigns(DSignTypeDefault.START);
+
         // Try the matching location
-        for (DSign dSign : dSigns) {
-            if (dSign.getType() == DSignTypeDefault.START) {
-                if (((StartSign) dSign).getId() == index) {
-                    return ((LocationSign) dSign).getLocation();
-                }
+        for (DSign dSign : startSigns) {
+            if (((StartSign) dSign).getId() == index) {
+                return ((LocationSign) dSign).getLocation();
             }
         }
 
         // Try any location
-        for (DSign dSign : dSigns) {
-            if (dSign.getType() == DSignTypeDefault.START) {
-                return ((LocationSign) dSign).getLocation();
-            }
+        if (!startSigns.isEmpty()) {
+            return ((LocationSign) startSigns.get(0)).getLocation();
         }
 
         // Lobby location as fallback
@@ -291,18 +312,35 @@ public class DGameWorld extends DInstanceWorld {
     }
 
     /**
-     * @return the loadedChunks
+     * @deprecated Use {@link #getLoadedChunkReferences()}; changes to the returned list are not written back.
+     * @return a copy of the chunks that are kept loaded
      */
+    @Deprecated
     public CopyOnWriteArrayList<Chunk> getLoadedChunks() {
-        return loadedChunks;
+        if (getWorld() == null) {
+            return new CopyOnWriteArrayList<>();
+        }
+        return new CopyOnWriteArrayList<>(loadedChunks.getChunks(getWorld()));
     }
 
     /**
+     * @deprecated Use {@link #getLoadedChunkReferences()}.
      * @param loadedChunks
-     * the loadedChunks to set
+     * the chunks to keep loaded with one reference each instead of the current ones
      */
+    @Deprecated
     public void setLoadedChunks(CopyOnWriteArrayList<Chunk> loadedChunks) {
-        this.loadedChunks = loadedChunks;
+        this.loadedChunks.clear();
+        for (Chunk chunk : loadedChunks) {
+            this.loadedChunks.acquire(chunk.getX(), chunk.getZ());
+        }
+    }
+
+    /**
+     * @return the reference counted chunks that are kept loaded
+     */
+    public LoadedChunks getLoadedChunkReferences() {
+        return loadedChunks;
     }
 
     /**
@@ -321,10 +359,42 @@ public class DGameWorld extends DInstanceWorld {
     }
 
     /**
-     * @return the dMobs
+     * The scheduler is registered at the {@link de.erethon.dungeonsxl.sign.mob.MobSpawnSchedulerTask} when it is first requested and removed when the world is deleted.
+     *
+     * @return the scheduler that drives the mob signs of the world
+     */
+    public MobSpawnScheduler getMobSpawnScheduler() {
+        if (mobSpawnScheduler == null) {
+            mobSpawnScheduler = new MobSpawnScheduler();
+            plugin.getDWorlds().getMobSpawnSchedulerTask().register(mobSpawnScheduler);
+        }
+        return mobSpawnScheduler;
+    }
+
+    /**
+     * @deprecated Changes to the returned list are not written back; use {@link #getDMobView()}, {@link #addDMob(DMob)} and {@link #removeDMob(DMob)}
+     * instead.
+     * @return a copy of the dMobs
      */
+    @Deprecated
     public CopyOnWriteArrayList<DMob> getDMobs() {
-        return dMobs;
+        return new CopyOnWriteArrayList<>(dMobs.values());
+    }
+
+    /**
+     * @return an unmodifiable view of the dMobs
+     */
+    public Collection<DMob> getDMobView() {
+        return Collections.unmodifiableCollection(dMobs.values());
+    }
+
+    /**
+     * @param entity
+     * the entity
+     * @return the dMob that represents the entity or null if the entity is not a dMob
+     */
+    public DMob getDMob(Entity entity) {
+        return dMobs.get(entity.getUniqueId());
     }
 
     /**
@@ -332,7 +402,7 @@ public class DGameWorld extends DInstanceWorld {
      * the dMob to add
      */
     public void addDMob(DMob dMob) {
-        dMobs.add(dMob);
+        dMobs.put(dMob.getEntity().getUniqueId(), dMob);
     }
 
     /**
@@ -340,10 +410,12 @@ public class DGameWorld extends DInstanceWorld {
      * the dMob to remove
      */
     public void removeDMob(DMob dMob) {
-        dMobs.remove(dMob);
+        dMobs.remove(dMob.getEntity().getUniqueId(), dMob);
     }
 
     /**
+     * Use {@link #addDSign(DSign)} and {@link #removeDSign(DSign)} to modify the signs so that the indices stay up to date.
+     *
      * @return the dSigns
      */
     public CopyOnWriteArrayList<DSign> getDSigns() {
@@ -351,16 +423,11 @@ public class DGameWorld extends DInstanceWorld {
     }
 
     /**
-     * @return the triggers with the type
+     * @return an unmodifiable view of the dSigns with the type
      */
     public List<DSign> getDSigns(DSignType type) {
-        List<DSign> dSignsOfType = new ArrayList<>();
-        for (DSign dSign : dSigns) {
-            if (dSign.getType() == type) {
-                dSignsOfType.add(dSign);
-            }
-        }
-        return dSignsOfType;
+        List<DSign> dSignsOfType = dSignsByType.get(type);
+        return dSignsOfType != null ? Collections.unmodifiableList(dSignsOfType) : Collections.<DSign>emptyList();
     }
 
     /**
@@ -369,6 +436,55 @@ public class DGameWorld extends DInstanceWorld {
      */
     public void setDSigns(CopyOnWriteArrayList<DSign> dSigns) {
         this.dSigns = dSigns;
+
+        dSignsByType.clear();
+        for (DSign dSign : dSigns) {
+            indexDSign(dSign);
+        }
+        invalidateMobCount();
+    }
+
+    /**
+     * @param dSign
+     * the dSign to add
+     */
+    public void addDSign(DSign dSign) {
+        if (dSign == null) {
+            return;
+        }
+
+        dSigns.add(dSign);
+        indexDSign(dSign);
+        if (dSign instanceof MobSign) {
+            invalidateMobCount();
+        }
+    }
+
+    /**
+     * @param dSign
+     * the dSign to remove
+     */
+    public void removeDSign(DSign dSign) {
+        if (!dSigns.remove(dSign)) {
+            return;
+        }
+
+        List<DSign> dSignsOfType = dSignsByType.get(dSign.getType());
+        if (dSignsOfType != null) {
+            dSignsOfType.remove(dSign);
+        }
+        if (dSign instanceof MobSign) {
+            invalidateMobCount();
+        }
+    }
+
+    private void indexDSign(DSign dSign) {
+        List<DSign> dSignsOfType = dSignsByType.get(dSign.getType());
+        if (dSignsOfType == null) {
+            dSignsOfType = new CopyOnWriteArrayList<>();
+            dSignsByType.put(dSign.getType(), dSignsOfType);
+        }
+        dSignsOfType.add(dSign);
     }
 
     /**
@@ -379,16 +495,56 @@ public class DGameWorld extends DInstanceWorld {
     }
 
     /**
-     * @return the triggers with the type
+     * @return an unmodifiable view of the triggers with the type
      */
     public List<Trigger> getTriggers(TriggerType type) {
-        List<Trigger> triggersOfType = new ArrayList<>();
-        for (Trigger trigger : triggers) {
-            if (trigger.getType() == type) {
-                triggersOfType.add(trigger);
-            }
-        }
-        return triggersOfType;
+        List<Trigger> triggersOfType = triggersByType.get(type);
+        return triggersOfType != null ? Collections.unmodifiableList(triggersOfType) : Collections.<Trigger>emptyList();
+    }
+
+    /**
+     * @param id
+     * the ID of the trigger
+     * @return the sign trigger with the ID
+     */
+    public SignTrigger getSignTrigger(int id) {
+        return signTriggers.get(id);
+    }
+
+    /**
+     * @param id
+     * the ID of the trigger
+     * @return the interact trigger with the ID
+     */
+    public InteractTrigger getInteractTrigger(int id) {
+        return interactTriggersById.get(id);
+    }
+
+    /**
+     * @param block
+     * the block the trigger is bound to
+     * @return the interact trigger bound to the block
+     */
+    public InteractTrigger getInteractTrigger(Block block) {
+        return interactTriggersByBlock.get(PositionUtil.getBlockKey(block));
+    }
+
+    /**
+     * @param name
+     * the name of the mob; case-insensitive
+     * @return the mob trigger of the mob
+     */
+    public MobTrigger getMobTrigger(String name) {
+        return mobTriggers.get(name.toLowerCase());
+    }
+
+    /**
+     * @param name
+     * the name of the item; case-insensitive
+     * @return the use item trigger of the item
+     */
+    public UseItemTrigger getUseItemTrigger(String name) {
+        return useItemTriggers.get(name.toLowerCase());
     }
 
     /**
@@ -397,6 +553,53 @@ public class DGameWorld extends DInstanceWorld {
      */
     public void addTrigger(Trigger trigger) {
         triggers.add(trigger);
+
+        List<Trigger> triggersOfType = triggersByType.get(trigger.getType());
+        if (triggersOfType == null) {
+            triggersOfType = new CopyOnWriteArrayList<>();
+            triggersByType.put(trigger.getType(), triggersOfType);
+        }
+        triggersOfType.add(trigger);
+
+        if (trigger instanceof RedstoneTrigger) {
+            Block block = ((RedstoneTrigger) trigger).getBlock();
+            int x = block.getX(), y = block.getY(), z = block.getZ();
+            watchRedstone(PositionUtil.getBlockKey(x, y, z), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x + 1, y, z), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x - 1, y, z), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x, y + 1, z), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x, y - 1, z), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x, y, z + 1), (RedstoneTrigger) trigger);
+            watchRedstone(PositionUtil.getBlockKey(x, y, z - 1), (RedstoneTrigger) trigger);
+
+        } else if (trigger instanceof DistanceTrigger) {
+            indexDistanceTrigger((DistanceTrigger) trigger, true);
+
+        } else if (trigger instanceof SignTrigger) {
+            signTriggers.putIfAbsent(((SignTrigger) trigger).getId(), (SignTrigger) trigger);
+
+        } else if (trigger instanceof InteractTrigger) {
+            InteractTrigger interactTrigger = (InteractTrigger) trigger;
+            if (interactTrigger.getId() != 0) {
+                interactTriggersById.putIfAbsent(interactTrigger.getId(), interactTrigger);
+            }
+            if (interactTrigger.getInteractBlock() != null) {
+                long key = PositionUtil.getBlockKey(interactTrigger.getInteractBlock());
+                if (!interactTriggersByBlock.containsKey(key)) {
+                    interactTriggersByBlock.put(key, interactTrigger);
+                }
+            }
+
+        } else if (trigger instanceof MobTrigger) {
+            mobTriggers.putIfAbsent(((MobTrigger) trigger).getName().toLowerCase(), (MobTrigger) trigger);
+
+        } else if (trigger instanceof UseItemTrigger) {
+            UseItemTrigger useItemTrigger = (UseItemTrigger) trigger;
+            useItemTriggers.putIfAbsent(useItemTrigger.getName().toLowerCase(), useItemTrigger);
+            if (useItemTrigger.getMatchedName() != null) {
+                useItemTriggers.putIfAbsent(useItemTrigger.getMatchedName().toLowerCase(), useItemTrigger);
+            }
+        }
     }
 
     /**
@@ -404,14 +607,133 @@ public class DGameWorld extends DInstanceWorld {
      * the trigger to remove
      */
     public void removeTrigger(Trigger trigger) {
-        triggers.remove(trigger);
+        if (!triggers.remove(trigger)) {
+            return;
+        }
+
+        List<Trigger> triggersOfType = triggersByType.get(trigger.getType());
+        if (triggersOfType != null) {
+            triggersOfType.remove(trigger);
+        }
+
+        if (trigger instanceof RedstoneTrigger) {
+            Block block = ((RedstoneTrigger) trigger).getBlock();
+            int x = block.getX(), y = block.getY(), z = block.getZ();
+            unwatchRedstone(PositionUtil.getBlockKey(x, y, z), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x + 1, y, z), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x - 1, y, z), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x, y + 1, z), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x, y - 1, z), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x, y, z + 1), (RedstoneTrigger) trigger);
+            unwatchRedstone(PositionUtil.getBlockKey(x, y, z - 1), (RedstoneTrigger) trigger);
+
+        } else if (trigger instanceof DistanceTrigger) {
+            indexDistanceTrigger((DistanceTrigger) trigger, false);
+
+        } else if (trigger instanceof SignTrigger) {
+            signTriggers.remove(((SignTrigger) trigger).getId(), trigger);
+
+        } else if (trigger instanceof InteractTrigger) {
+            InteractTrigger interactTrigger = (InteractTrigger) trigger;
+            interactTriggersById.remove(interactTrigger.getId(), interactTrigger);
+            if (interactTrigger.getInteractBlock() != null) {
+                long key = PositionUtil.getBlockKey(interactTrigger.getInteractBlock());
+                if (interactTriggersByBlock.get(key) == interactTrigger) {
+                    interactTriggersByBlock.remove(key);
+                }
+            }
+
+        } else if (trigger instanceof MobTrigger) {
+            mobTriggers.remove(((MobTrigger) trigger).getName().toLowerCase(), trigger);
+
+        } else if (trigger instanceof UseItemTrigger) {
+            UseItemTrigger useItemTrigger = (UseItemTrigger) trigger;
+            useItemTriggers.remove(useItemTrigger.getName().toLowerCase(), useItemTrigger);
+            if (useItemTrigger.getMatchedName() != null) {
+                useItemTriggers.remove(useItemTrigger.getMatchedName().toLowerCase(), useItemTrigger);
+            }
+        }
+    }
+
+    /**
+     * @param location
+     * the location to check
+     * @return the distance triggers that might be in range of the location or null if there are none
+     */
+    public List<DistanceTrigger> getDistanceTriggers(Location location) {
+        return distanceTriggers.get(PositionUtil.getChunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4));
+    }
+
+    /**
+     * @param block
+     * a block that changed its redstone state
+     * @return the redstone triggers whose power state might be affected by the block or null if there are none
+     */
+    public List<RedstoneTrigger> getRedstoneTriggers(Block block) {
+        return redstoneTriggers.get(PositionUtil.getBlockKey(block));
+    }
+
+    /* Distance triggers are stored in a grid of chunk sized cells; each trigger is added to every cell its range overlaps. */
+    private void indexDistanceTrigger(DistanceTrigger trigger, boolean add) {
+        Location location = trigger.getLocation();
+        int distance = trigger.getDistance();
+        int minX = (int) Math.floor(location.getX() - distance) >> 4, maxX = (int) Math.floor(location.getX() + distance) >> 4;
+        int minZ = (int) Math.floor(location.getZ() - distance) >> 4, maxZ = (int) Math.floor(location.getZ() + distance) >> 4;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                long key = PositionUtil.getChunkKey(cx, cz);
+                List<DistanceTrigger> cell = distanceTriggers.get(key);
+                if (add) {
+                    if (cell == null) {
+                        cell = new CopyOnWriteArrayList<>();
+                        distanceTriggers.put(key, cell);
+                    }
+                    cell.add(trigger);
+
+                } else if (cell != null) {
+                    cell.remove(trigger);
+                    if (cell.isEmpty()) {
+                        distanceTriggers.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void watchRedstone(long key, RedstoneTrigger trigger) {
+        List<RedstoneTrigger> watching = redstoneTriggers.get(key);
+        if (watching == null) {
+            watching = new ArrayList<>(1);
+            redstoneTriggers.put(key, watching);
+        }
+        watching.add(trigger);
+    }
+
+    private void unwatchRedstone(long key, RedstoneTrigger trigger) {
+        List<RedstoneTrigger> watching = redstoneTriggers.get(key);
+        if (watching == null) {
+            return;
+        }
+        watching.remove(trigger);
+        if (watching.isEmpty()) {
+            redstoneTriggers.remove(key);
+        }
     }
 
     /**
+     * The value is cached until a mob sign is added, removed or changes its initial amount or until the floor count of the game changes.
+     *
      * @return the potential amount of mobs in the world
      */
     public int getMobCount() {
-        int mobCount = 0;
+        int floorCount = getGame().getFloorCount();
+        if (mobCount != -1 && mobCountFloor == floorCount) {
+            return mobCount;
+        }
+
+        mobCount = 0;
+        mobCountFloor = floorCount;
 
         signs:
         for (DSign dSign : dSigns) {
@@ -421,7 +743,7 @@ public class DGameWorld extends DInstanceWorld {
 
             for (Trigger trigger : dSign.getTriggers()) {
                 if (trigger.getType() == TriggerTypeDefault.PROGRESS) {
-                    if (((ProgressTrigger) trigger).getFloorCount() > getGame().getFloorCount()) {
+                    if (((ProgressTrigger) trigger).getFloorCount() > floorCount) {
                         break signs;
                     }
                 }
@@ -433,6 +755,13 @@ public class DGameWorld extends DInstanceWorld {
         return mobCount;
     }
 
+    /**
+     * Forces {@link #getMobCount()} to recalculate the amount of mobs the next time it is called.
+     */
+    public void invalidateMobCount() {
+        mobCount = -1;
+    }
+
     /**
      * @return the Dungeon that contains the DGameWorld
      */
@@ -489,29 +818,21 @@ public class DGameWorld extends DInstanceWorld {
      */
     @Override
     public void delete() {
-        GameWorldUnloadEvent event = new GameWorldUnloadEvent(this);
-        Bukkit.getPluginManager().callEvent(event);
+        if (exists()) {
+            GameWorldUnloadEvent event = new GameWorldUnloadEvent(this);
+            Bukkit.getPluginManager().callEvent(event);
 
-        if (event.isCancelled()) {
-            return;
+            if (event.isCancelled()) {
+                return;
+            }
         }
 
-        if (!plugin.getMainConfig().areTweaksEnabled()) {
-            Bukkit.unloadWorld(getWorld(), false);
-            FileUtil.removeDir(getFolder());
-            worlds.removeInstance(this);
-
-        } else {
-            final DGameWorld gameWorld = this;
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    Bukkit.unloadWorld(getWorld(), false);
-                    FileUtil.removeDir(getFolder());
-                    worlds.removeInstance(gameWorld);
-                }
-            }.runTaskAsynchronously(plugin);
+        if (mobSpawnScheduler != null) {
+            plugin.getDWorlds().getMobSpawnSchedulerTask().unregister(mobSpawnScheduler);
         }
+        loadedChunks.clear();
+
+        unloadAndDelete(false, null);
     }
 
     /**
@@ -577,7 +898,7 @@ public class DGameWorld extends DInstanceWorld {
             return true;
         }
 
-        GameRuleProvider rules = game.getRules();
+        CompiledGameRules rules = game.getCompiledRules();
         if (!rules.canBreakBlocks() && !rules.canBreakPlacedBlocks()) {
             return true;
         }
@@ -589,27 +910,16 @@ public class DGameWorld extends DInstanceWorld {
             }
             if (entity.getLocation().getBlock().getRelative(((Hanging) entity).getAttachedFace()).equals(block)) {
                 Hanging hanging = (Hanging) entity;
-                if (rules.getDamageProtectedEntities().contains(hanging.getType())) {
+                if (rules.isDamageProtected(hanging.getType())) {
                     event.setCancelled(true);
                     break;
                 }
             }
         }
 
-        Map<Material, HashSet<Material>> whitelist = rules.getBreakWhitelist();
-        Material material = block.getType();
-        Material breakTool = player.getItemInHand().getType();
-
-        if (whitelist == null) {
+        if (rules.isBreakWhitelisted(block.getType(), player.getItemInHand().getType())) {
             if (rules.canBreakPlacedBlocks()) {
-                return (!placedBlocks.contains(block));
-            } else if (rules.canBreakBlocks()) {
-                return false;
-            }
-
-        } else if (whitelist.containsKey(material) && whitelist.get(material) == null | whitelist.get(material).isEmpty() | whitelist.get(material).contains(breakTool)) {
-            if (rules.canBreakPlacedBlocks()) {
-                return (!placedBlocks.contains(block));
+                return !isPlacedBlock(block);
             } else if (rules.canBreakBlocks()) {
                 return false;
             }
@@ -634,7 +944,7 @@ public class DGameWorld extends DInstanceWorld {
             return true;
         }
 
-        GameRuleProvider rules = game.getRules();
+        CompiledGameRules rules = game.getCompiledRules();
         if (!rules.canPlaceBlocks() && !PlaceableBlock.canBuildHere(block, block.getFace(against), hand.getType(), this)) {
             // Workaround for a bug that would allow 3-Block-high jumping
             Location loc = player.getLocation();
@@ -652,15 +962,23 @@ public class DGameWorld extends DInstanceWorld {
             return true;
         }
 
-        Set<Material> whitelist = rules.getPlaceWhitelist();
-        if (whitelist == null || whitelist.contains(block.getType())) {
-            placedBlocks.add(block);
+        if (rules.isPlaceWhitelisted(block.getType())) {
+            placedBlocks.add(PositionUtil.getBlockKey(block));
             return false;
         }
 
         return true;
     }
 
+    /**
+     * @param block
+     * the block to check
+     * @return if the block has been placed by a player
+     */
+    public boolean isPlacedBlock(Block block) {
+        return placedBlocks.contains(PositionUtil.getBlockKey(block));
+    }
+
     /* Statics */
     /**
      * @param world
@@ -669,7 +987,7 @@ public class DGameWorld extends DInstanceWorld {
      * the EditWorld that represents the world
      */
     public static DGameWorld getByWorld(World world) {
-        DInstanceWorld instance = DungeonsXL.getInstance().getDWorlds().getInstanceByName(world.getName());
+        DInstanceWorld instance = DungeonsXL.getInstance().getDWorlds().getInstanceByWorld(world);
 
         if (instance instanceof DGameWorld) {
             return (DGameWorld) instance;
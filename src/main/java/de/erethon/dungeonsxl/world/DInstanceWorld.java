@@ -17,10 +17,13 @@
 package de.erethon.dungeonsxl.world;
 
 import de.erethon.commons.chat.MessageUtil;
+import de.erethon.commons.misc.FileUtil;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.game.GameRuleProvider;
 import de.erethon.dungeonsxl.player.DGamePlayer;
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 
@@ -39,6 +42,9 @@ public abstract class DInstanceWorld {
     World world;
     private int id;
     private Location lobby;
+    private volatile InstanceState state = InstanceState.COPYING;
+    /* The folder deletion of an instance deleted while its world was being loaded on the I/O thread */
+    private Runnable deferredDeletion;
 
     DInstanceWorld(DResourceWorld resourceWorld, File folder, World world, int id) {
         this.resourceWorld = resourceWorld;
@@ -85,6 +91,30 @@ public abstract class DInstanceWorld {
         return world;
     }
 
+    /**
+     * @param world
+     * the loaded world of this instance
+     */
+    void setWorld(World world) {
+        this.world = world;
+        worlds.mapWorld(this);
+    }
+
+    /**
+     * @return the stage of the lifecycle this instance is in
+     */
+    public InstanceState getState() {
+        return state;
+    }
+
+    /**
+     * @param state
+     * the stage of the lifecycle to set
+     */
+    void setState(InstanceState state) {
+        this.state = state;
+    }
+
     /**
      * @return false if this instance does not have a world, yet
      */
@@ -152,6 +182,73 @@ public abstract class DInstanceWorld {
         }
     }
 
+    /**
+     * Unloads the world on the main thread and deletes the instance folder on the I/O thread.
+     * <p>
+     * If the world is being loaded on the I/O thread, the folder is deleted when the instantiation has unloaded the world again.
+     *
+     * @param save
+     * whether the world shall be saved when it is unloaded
+     * @param beforeDeletion
+     * file operations that need the unloaded instance folder; run on the I/O thread before it is deleted; may be null
+     * @return a future that is completed when the folder has been deleted
+     */
+    CompletableFuture<Void> unloadAndDelete(boolean save, Runnable beforeDeletion) {
+        boolean loading = state == InstanceState.LOADING && world == null;
+        deferredDeletion = null;
+        setState(InstanceState.UNLOADING);
+        // The world might have been loaded by the I/O thread without its main thread stage having run
+        World loaded = world != null ? world : Bukkit.getWorld(folder.getName());
+        if (loaded != null) {
+            Bukkit.unloadWorld(loaded, save);
+        }
+
+        setState(InstanceState.DELETING);
+        Runnable deletion = () -> {
+            if (beforeDeletion != null) {
+                beforeDeletion.run();
+            }
+            FileUtil.removeDir(folder);
+            setState(InstanceState.DELETED);
+        };
+
+        if (loading && loaded == null && worlds.isAsyncLifecycleAvailable()) {
+            CompletableFuture<Void> deleted = new CompletableFuture<>();
+            deferredDeletion = () -> deleteFolder(deletion).whenComplete((v, exception) -> {
+                if (exception != null) {
+                    deleted.completeExceptionally(exception);
+                } else {
+                    deleted.complete(null);
+                }
+            });
+            return deleted;
+        }
+
+        return deleteFolder(deletion);
+    }
+
+    private CompletableFuture<Void> deleteFolder(Runnable deletion) {
+        worlds.removeInstance(this);
+        if (worlds.isAsyncLifecycleAvailable()) {
+            return CompletableFuture.runAsync(deletion, worlds.getIOExecutor());
+        } else {
+            deletion.run();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Deletes the folder of an instance that was deleted while its world was being loaded. Called on the main thread after the world has been
+     * unloaded.
+     */
+    void runDeferredDeletion() {
+        if (deferredDeletion != null) {
+            Runnable deletion = deferredDeletion;
+            deferredDeletion = null;
+            deletion.run();
+        }
+    }
+
     /* Abstracts */
     /**
      * Deletes this instance.
@@ -16,6 +16,7 @@
  */
 package de.erethon.dungeonsxl.world;
 
+import de.erethon.commons.chat.MessageUtil;
 import de.erethon.commons.misc.FileUtil;
 import de.erethon.commons.worldloader.WorldLoader;
 import de.erethon.dungeonsxl.DungeonsXL;
@@ -23,12 +24,14 @@ import de.erethon.dungeonsxl.event.editworld.EditWorldGenerateEvent;
 import de.erethon.dungeonsxl.player.DEditPlayer;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.bukkit.World.Environment;
 import org.bukkit.WorldCreator;
 import org.bukkit.WorldType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * This class represents unloaded worlds.
@@ -43,6 +46,7 @@ public class DResourceWorld {
     private File folder;
     private WorldConfig config;
     private SignData signData;
+    private CompletableFuture<DEditWorld> pendingEditWorld;
 
     public DResourceWorld(DWorldCache worlds, String name) {
         this.worlds = worlds;
@@ -202,54 +206,130 @@ public class DResourceWorld {
     }
 
     /**
+     * Instantiates this world. If the tweaks are enabled, the instance is returned before its world is loaded. Use
+     * {@link #instantiateAsync(boolean)} to get notified when the instance is ready.
+     *
      * @param game
      * whether the instance is a DGameWorld
      * @return an instance of this world
      */
     public DInstanceWorld instantiate(final boolean game) {
+        DInstanceWorld instance = createInstance(game);
+
+        if (!plugin.getMainConfig().areTweaksEnabled()) {
+            copyFiles(game ? worlds.getInstancePool().takeFolder(this) : null, instance.getFolder());
+            instance.setState(InstanceState.LOADING);
+            instance.setWorld(Bukkit.createWorld(getWorldCreator(instance)));
+            deserializeSigns(instance);
+
+        } else {
+            instantiate(instance);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Instantiates this world in stages: The files are copied on the I/O thread, the world is loaded and the signs are deserialized on the main
+     * thread. If the tweaks are enabled, the world is loaded on the I/O thread.
+     *
+     * @param game
+     * whether the instance is a DGameWorld
+     * @return a future that is completed on the main thread when the instance is ready
+     */
+    public CompletableFuture<DInstanceWorld> instantiateAsync(boolean game) {
+        return instantiate(createInstance(game));
+    }
+
+    private CompletableFuture<DInstanceWorld> instantiate(DInstanceWorld instance) {
+        File pooledFolder = instance instanceof DGameWorld ? worlds.getInstancePool().takeFolder(this) : null;
+        CompletableFuture<Void> copied = CompletableFuture.runAsync(() -> {
+            copyFiles(pooledFolder, instance.getFolder());
+        }, worlds.getIOExecutor());
+
+        CompletableFuture<World> loaded;
+        if (plugin.getMainConfig().areTweaksEnabled()) {
+            loaded = copied.thenApplyAsync(v -> {
+                checkNotDeleted(instance);
+                instance.setState(InstanceState.LOADING);
+                return WorldLoader.createWorld(getWorldCreator(instance));
+            }, worlds.getIOExecutor());
+        } else {
+            loaded = copied.thenApplyAsync(v -> {
+                checkNotDeleted(instance);
+                instance.setState(InstanceState.LOADING);
+                return Bukkit.createWorld(getWorldCreator(instance));
+            }, worlds.getMainThreadExecutor());
+        }
+
+        return loaded.thenApplyAsync(world -> {
+            if (instance.getState().isDeleted()) {
+                Bukkit.unloadWorld(world, false);
+                instance.runDeferredDeletion();
+            }
+            checkNotDeleted(instance);
+            instance.setWorld(world);
+            deserializeSigns(instance);
+            return instance;
+        }, worlds.getMainThreadExecutor()).whenCompleteAsync((result, exception) -> {
+            if (exception == null) {
+                return;
+            } else if (instance.getState().isDeleted()) {
+                instance.runDeferredDeletion();
+            } else {
+                MessageUtil.log(plugin, "&4Could not instantiate the map &6" + getName() + "&4: " + exception.getMessage());
+                instance.unloadAndDelete(false, null);
+            }
+        }, worlds.getMainThreadExecutor());
+    }
+
+    private DInstanceWorld createInstance(boolean game) {
         int id = worlds.generateId();
         String name = worlds.generateName(game, id);
-        final File instanceFolder = new File(Bukkit.getWorldContainer(), name);
 
         while (Bukkit.getWorld(name) != null) {
             id++;
             name = worlds.generateName(game, id);
         }
 
-        final DInstanceWorld instance = game ? new DGameWorld(this, instanceFolder, id) : new DEditWorld(this, instanceFolder, id);
-
-        if (!plugin.getMainConfig().areTweaksEnabled()) {
-            FileUtil.copyDir(folder, instanceFolder, DungeonsXL.EXCLUDED_FILES);
-            instance.world = Bukkit.createWorld(WorldCreator.name(name).environment(getWorldEnvironment()));
+        File instanceFolder = new File(Bukkit.getWorldContainer(), name);
+        return game ? new DGameWorld(this, instanceFolder, id) : new DEditWorld(this, instanceFolder, id);
+    }
 
-            if (game) {
-                signData.deserializeSigns((DGameWorld) instance);
-            } else {
-                signData.deserializeSigns((DEditWorld) instance);
+    /**
+     * @param pooledFolder
+     * a copy of this world prepared by the instance pool; may be null
+     * @param instanceFolder
+     * the destination
+     */
+    private void copyFiles(File pooledFolder, File instanceFolder) {
+        if (pooledFolder != null) {
+            if (pooledFolder.renameTo(instanceFolder)) {
+                return;
             }
+            FileUtil.removeDir(pooledFolder);
+        }
+        FileUtil.copyDir(folder, instanceFolder, DungeonsXL.EXCLUDED_FILES);
+    }
+
+    private WorldCreator getWorldCreator(DInstanceWorld instance) {
+        return WorldCreator.name(instance.getFolder().getName()).environment(getWorldEnvironment());
+    }
 
+    private void deserializeSigns(DInstanceWorld instance) {
+        instance.setState(InstanceState.DESERIALIZING);
+        if (instance instanceof DGameWorld) {
+            signData.deserializeSigns((DGameWorld) instance);
         } else {
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    FileUtil.copyDir(folder, instanceFolder, DungeonsXL.EXCLUDED_FILES);
-                    instance.world = WorldLoader.createWorld(WorldCreator.name(instanceFolder.getName()).environment(getWorldEnvironment()));
-
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            if (game) {
-                                signData.deserializeSigns((DGameWorld) instance);
-                            } else {
-                                signData.deserializeSigns((DEditWorld) instance);
-                            }
-                        }
-                    }.runTask(plugin);
-                }
-            }.runTaskAsynchronously(plugin);
+            signData.deserializeSigns((DEditWorld) instance);
         }
+        instance.setState(InstanceState.READY);
+    }
 
-        return instance;
+    private static void checkNotDeleted(DInstanceWorld instance) {
+        if (instance.getState().isDeleted()) {
+            throw new CancellationException("The instance has been deleted while it was being instantiated");
+        }
     }
 
     /**
@@ -265,13 +345,58 @@ public class DResourceWorld {
         return (DEditWorld) instantiate(false);
     }
 
+    /**
+     * Returns the edit instance of this world if it is ready. If it is still being instantiated, the pending future is returned so that there is
+     * never more than one edit instance per map.
+     *
+     * @return a future of an old or a new instance of this world
+     */
+    public CompletableFuture<DEditWorld> instantiateAsEditWorldAsync() {
+        if (pendingEditWorld != null && !pendingEditWorld.isDone()) {
+            return pendingEditWorld;
+        }
+
+        for (DEditWorld instance : worlds.getEditWorlds()) {
+            if (!instance.getName().equals(getName())) {
+                continue;
+            }
+            if (instance.getState() == InstanceState.READY) {
+                return CompletableFuture.completedFuture(instance);
+            } else if (!instance.getState().isDeleted()) {
+                CompletableFuture<DEditWorld> loading = new CompletableFuture<>();
+                loading.completeExceptionally(new IllegalStateException("The edit instance of " + getName() + " is still being loaded"));
+                return loading;
+            }
+        }
+
+        pendingEditWorld = instantiateAsync(false).thenApply(instance -> (DEditWorld) instance);
+        return pendingEditWorld;
+    }
+
     /**
      * @return a new instance of this world
      */
     public DGameWorld instantiateAsGameWorld() {
+        DGameWorld pooled = worlds.getInstancePool().takeInstance(this);
+        if (pooled != null) {
+            return pooled;
+        }
+
         return (DGameWorld) instantiate(true);
     }
 
+    /**
+     * @return a future of a new instance of this world
+     */
+    public CompletableFuture<DGameWorld> instantiateAsGameWorldAsync() {
+        DGameWorld pooled = worlds.getInstancePool().takeInstance(this);
+        if (pooled != null) {
+            return CompletableFuture.completedFuture(pooled);
+        }
+
+        return instantiateAsync(true).thenApply(instance -> (DGameWorld) instance);
+    }
+
     /**
      * Generate a new DResourceWorld.
      *
@@ -294,17 +419,20 @@ public class DResourceWorld {
         }
 
         if (!plugin.getMainConfig().areTweaksEnabled()) {
-            editWorld.world = creator.createWorld();
+            editWorld.setState(InstanceState.LOADING);
+            editWorld.setWorld(creator.createWorld());
+            editWorld.setState(InstanceState.READY);
 
         } else {
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    FileUtil.copyDir(DWorldCache.RAW, folder, DungeonsXL.EXCLUDED_FILES);
-                    editWorld.generateIdFile();
-                    editWorld.world = WorldLoader.createWorld(creator);
-                }
-            }.runTaskAsynchronously(plugin);
+            CompletableFuture.supplyAsync(() -> {
+                FileUtil.copyDir(DWorldCache.RAW, folder, DungeonsXL.EXCLUDED_FILES);
+                editWorld.generateIdFile();
+                editWorld.setState(InstanceState.LOADING);
+                return WorldLoader.createWorld(creator);
+            }, worlds.getIOExecutor()).thenAcceptAsync(world -> {
+                editWorld.setWorld(world);
+                editWorld.setState(InstanceState.READY);
+            }, worlds.getMainThreadExecutor());
         }
 
         return editWorld;
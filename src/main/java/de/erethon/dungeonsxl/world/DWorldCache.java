@@ -16,14 +16,24 @@
  */
 package de.erethon.dungeonsxl.world;
 
+import de.erethon.commons.chat.MessageUtil;
 import de.erethon.commons.misc.FileUtil;
 import de.erethon.commons.misc.NumberUtil;
 import de.erethon.dungeonsxl.DungeonsXL;
 import de.erethon.dungeonsxl.config.MainConfig;
 import de.erethon.dungeonsxl.config.MainConfig.BackupMode;
+import de.erethon.dungeonsxl.sign.mob.MobSpawnSchedulerTask;
 import java.io.File;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
@@ -41,11 +51,31 @@ public class DWorldCache {
     MainConfig mainConfig = plugin.getMainConfig();
 
     public static final File RAW = new File(DungeonsXL.MAPS, ".raw");
+    /* The time in seconds to wait for the I/O thread when the plugin is disabled */
+    private static final long SHUTDOWN_TIMEOUT = 60;
 
     private BukkitTask worldUnloadTask;
+    private MobSpawnSchedulerTask mobSpawnSchedulerTask;
+    private InstancePool instancePool = new InstancePool(this);
+
+    /* Copying and deleting instance folders is done by one dedicated thread; Bukkit methods are called from the main thread. */
+    private ExecutorService ioExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "DungeonsXL I/O");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Executor mainThreadExecutor = r -> {
+        if (Bukkit.isPrimaryThread()) {
+            r.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, r);
+        }
+    };
 
     private Set<DResourceWorld> resources = new HashSet<>();
     private Set<DInstanceWorld> instances = new HashSet<>();
+    /* Instances mapped by the UID of their loaded world. May be updated from async world loading tasks. */
+    private Map<UUID, DInstanceWorld> instancesByWorld = new ConcurrentHashMap<>();
 
     public DWorldCache(File folder) {
         for (File file : folder.listFiles()) {
@@ -59,6 +89,7 @@ public class DWorldCache {
         }
 
         startWorldUnloadTask(1200L);
+        startMobSpawnSchedulerTask();
         Bukkit.getPluginManager().registerEvents(new DWorldListener(this), plugin);
     }
 
@@ -80,7 +111,7 @@ public class DWorldCache {
      * @return the DInstanceWorld that represents this world
      */
     public DInstanceWorld getInstanceByWorld(World world) {
-        return getInstanceByName(world.getName());
+        return instancesByWorld.get(world.getUID());
     }
 
     /**
@@ -144,6 +175,7 @@ public class DWorldCache {
      */
     public void addInstance(DInstanceWorld instance) {
         instances.add(instance);
+        mapWorld(instance);
     }
 
     /**
@@ -152,6 +184,62 @@ public class DWorldCache {
      */
     public void removeInstance(DInstanceWorld instance) {
         instances.remove(instance);
+        instancesByWorld.values().remove(instance);
+    }
+
+    /**
+     * Makes the instance resolvable by its world once the world is loaded.
+     *
+     * @param instance
+     * the DInstanceWorld to map
+     */
+    void mapWorld(DInstanceWorld instance) {
+        if (instance.getWorld() != null) {
+            instancesByWorld.put(instance.getWorld().getUID(), instance);
+        }
+    }
+
+    /**
+     * @return the pool of prepared game world instances
+     */
+    public InstancePool getInstancePool() {
+        return instancePool;
+    }
+
+    /**
+     * @return the executor that performs the file operations of the instance lifecycle
+     */
+    public ExecutorService getIOExecutor() {
+        return ioExecutor;
+    }
+
+    /**
+     * @return an executor that runs tasks on the main thread; immediately if it is called from the main thread
+     */
+    public Executor getMainThreadExecutor() {
+        return mainThreadExecutor;
+    }
+
+    /**
+     * @return if the lifecycle of instances may be processed asynchronously; false while the plugin is being disabled
+     */
+    public boolean isAsyncLifecycleAvailable() {
+        return plugin.isEnabled() && !ioExecutor.isShutdown();
+    }
+
+    /**
+     * Stops the I/O executor and waits until the pending file operations have been processed so that the instances can be deleted synchronously
+     * afterwards.
+     */
+    public void shutdown() {
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                MessageUtil.log(plugin, "&4The I/O thread did not finish its file operations within " + SHUTDOWN_TIMEOUT + " seconds.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -219,7 +307,7 @@ public class DWorldCache {
                     }
                 }
 
-            } else if (file.getName().startsWith("DXL_Game_") && file.isDirectory()) {
+            } else if ((file.getName().startsWith("DXL_Game_") || file.getName().startsWith(InstancePool.FOLDER_PREFIX)) && file.isDirectory()) {
                 FileUtil.removeDir(file);
             }
         }
@@ -230,8 +318,14 @@ public class DWorldCache {
      */
     public void deleteAllInstances() {
         BackupMode backupMode = mainConfig.getBackupMode();
+        instancePool.clear();
         HashSet<DInstanceWorld> instances = new HashSet<>(this.instances);
         for (DInstanceWorld instance : instances) {
+            // The main thread stages of pending instantiations do not run anymore
+            if (instance.getState() != InstanceState.READY) {
+                instance.unloadAndDelete(false, null);
+                continue;
+            }
             if (backupMode == BackupMode.ON_DISABLE | backupMode == BackupMode.ON_DISABLE_AND_SAVE && instance instanceof DEditWorld) {
                 instance.getResource().backup(mainConfig.areTweaksEnabled());
             }
@@ -259,6 +353,12 @@ public class DWorldCache {
                 id = instance.getId() + 1;
             }
         }
+        // Pooled instances are not registered, but their IDs are reserved
+        for (DInstanceWorld instance : instancePool.getInstances()) {
+            if (instance.getId() >= id) {
+                id = instance.getId() + 1;
+            }
+        }
         return id;
     }
 
@@ -313,7 +413,31 @@ public class DWorldCache {
         worldUnloadTask = new WorldUnloadTask().runTaskTimer(plugin, period, period);
     }
 
+    /**
+     * @return the task that ticks the mob spawn schedulers of all game worlds
+     */
+    public MobSpawnSchedulerTask getMobSpawnSchedulerTask() {
+        return mobSpawnSchedulerTask;
+    }
+
+    /**
+     * start a new MobSpawnSchedulerTask
+     */
+    public void startMobSpawnSchedulerTask() {
+        mobSpawnSchedulerTask = new MobSpawnSchedulerTask(mainConfig);
+        mobSpawnSchedulerTask.runTaskTimer(plugin, 1L, 1L);
+    }
+
     /* Util */
+    /**
+     * @param exception
+     * an exception a future of an instance has been completed with
+     * @return if the instantiation has been cancelled because the instance was deleted in the meantime
+     */
+    public static boolean isCancellation(Throwable exception) {
+        return exception instanceof CancellationException || exception.getCause() instanceof CancellationException;
+    }
+
     /**
      * Removes files that are not needed from a world
      *
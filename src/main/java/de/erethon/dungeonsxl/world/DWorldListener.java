@@ -103,7 +103,7 @@ public class DWorldListener implements Listener {
     public void onChunkUnload(ChunkUnloadEvent event) {
         DInstanceWorld instance = dWorlds.getInstanceByWorld(event.getWorld());
         if (instance instanceof DGameWorld) {
-            if (((DGameWorld) instance).getLoadedChunks().contains(event.getChunk())) {
+            if (((DGameWorld) instance).getLoadedChunkReferences().contains(event.getChunk())) {
                 event.setCancelled(true);
             }
         }
@@ -131,7 +131,7 @@ public class DWorldListener implements Listener {
             return;
         }
         Game game = Game.getByGameWorld(gameWorld);
-        if (game.getRules().getDamageProtectedEntities().contains(event.getEntityType())) {
+        if (game.getCompiledRules().isDamageProtected(event.getEntityType())) {
             event.setCancelled(true);
         }
     }
@@ -143,7 +143,7 @@ public class DWorldListener implements Listener {
             return;
         }
         Game game = Game.getByGameWorld(gameWorld);
-        if (game.getRules().getInteractionProtectedEntities().contains(event.getRightClicked().getType())) {
+        if (game.getCompiledRules().isInteractionProtected(event.getRightClicked().getType())) {
             event.setCancelled(true);
         }
     }
@@ -0,0 +1,323 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.world;
+
+import de.erethon.commons.misc.FileUtil;
+import de.erethon.dungeonsxl.DungeonsXL;
+import de.erethon.dungeonsxl.config.MainConfig;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.bukkit.Bukkit;
+
+/**
+ * Keeps prepared game world instances of the pooled maps so that games can start without waiting for the map to be copied.
+ * <p>
+ * Depending on the configuration, the pool stores either copied instance folders or completely loaded instances. Pooled instances are not
+ * registered in the {@link DWorldCache} until they are handed out. The pool is refilled in the background and never lets the sum of game
+ * worlds and pooled instances exceed {@link MainConfig#getMaxInstances()}.
+ *
+ * @author agent
+ */
+public class InstancePool {
+
+    public static final String FOLDER_PREFIX = "DXL_Pool_";
+
+    DungeonsXL plugin = DungeonsXL.getInstance();
+    private DWorldCache worlds;
+
+    private Map<DResourceWorld, Deque<File>> folders = new HashMap<>();
+    private Map<DResourceWorld, Deque<DGameWorld>> instances = new HashMap<>();
+    private Map<DResourceWorld, Integer> pending = new HashMap<>();
+    private int pendingFolders;
+    private int folderId;
+    // Incremented when the pool of a map is cleared; instances that were started before are discarded when they are done
+    private Map<DResourceWorld, Integer> generations = new HashMap<>();
+
+    private int hits;
+    private int misses;
+
+    InstancePool(DWorldCache worlds) {
+        this.worlds = worlds;
+    }
+
+    /* Getters */
+    /**
+     * @return if the pool is enabled
+     */
+    public boolean isEnabled() {
+        return plugin.getMainConfig().getInstancePoolSize() > 0;
+    }
+
+    /**
+     * @return the amount of game worlds that could be started without preparing a new instance
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the amount of game worlds that had to be prepared because there was no pooled instance
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the amount of prepared instances in the pool
+     */
+    public int size() {
+        int size = 0;
+        for (Deque<File> resourceFolders : folders.values()) {
+            size += resourceFolders.size();
+        }
+        for (Deque<DGameWorld> resourceInstances : instances.values()) {
+            size += resourceInstances.size();
+        }
+        return size;
+    }
+
+    /**
+     * @param resource
+     * the pooled map
+     * @return the amount of prepared and pending instances of the map
+     */
+    public int size(DResourceWorld resource) {
+        Deque<File> resourceFolders = folders.get(resource);
+        Deque<DGameWorld> resourceInstances = instances.get(resource);
+        Integer resourcePending = pending.get(resource);
+        return (resourceFolders != null ? resourceFolders.size() : 0) + (resourceInstances != null ? resourceInstances.size() : 0)
+                + (resourcePending != null ? resourcePending : 0);
+    }
+
+    /**
+     * @return the pooled instances that are loaded, but not registered yet
+     */
+    Collection<DGameWorld> getInstances() {
+        List<DGameWorld> all = new ArrayList<>();
+        for (Deque<DGameWorld> resourceInstances : instances.values()) {
+            all.addAll(resourceInstances);
+        }
+        return all;
+    }
+
+    /* Actions */
+    /**
+     * Hands out a loaded instance of the map if the pool preloads instances.
+     *
+     * @param resource
+     * the map to instantiate
+     * @return a registered, ready instance or null if there is none
+     */
+    DGameWorld takeInstance(DResourceWorld resource) {
+        MainConfig config = plugin.getMainConfig();
+        if (!isEnabled() || !config.isInstancePoolPreloadEnabled() || !isServed(resource)) {
+            return null;
+        }
+
+        DGameWorld instance = poll(instances, resource);
+        if (instance != null) {
+            worlds.addInstance(instance);
+        }
+        record(resource, instance != null);
+        return instance;
+    }
+
+    /**
+     * Hands out a copied instance folder of the map if the pool does not preload instances. The folder needs to be moved to its destination.
+     *
+     * @param resource
+     * the map to instantiate
+     * @return a folder that contains a copy of the map or null if there is none
+     */
+    File takeFolder(DResourceWorld resource) {
+        MainConfig config = plugin.getMainConfig();
+        if (!isEnabled() || config.isInstancePoolPreloadEnabled() || !isServed(resource)) {
+            return null;
+        }
+
+        File folder = poll(folders, resource);
+        record(resource, folder != null);
+        return folder;
+    }
+
+    private <T> T poll(Map<DResourceWorld, Deque<T>> pool, DResourceWorld resource) {
+        Deque<T> resourcePool = pool.get(resource);
+        return resourcePool != null ? resourcePool.poll() : null;
+    }
+
+    /**
+     * @param resource
+     * the map
+     * @return if the pool prepares instances of the map; maps that are not served do not count as misses
+     */
+    private boolean isServed(DResourceWorld resource) {
+        List<String> maps = plugin.getMainConfig().getInstancePoolMaps();
+        return maps.isEmpty() || maps.contains(resource.getName());
+    }
+
+    private void record(DResourceWorld resource, boolean hit) {
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+        }
+        refill(resource);
+    }
+
+    /**
+     * Prepares instances of the configured maps.
+     */
+    public void warmUp() {
+        for (String name : plugin.getMainConfig().getInstancePoolMaps()) {
+            DResourceWorld resource = worlds.getResourceByName(name);
+            if (resource != null) {
+                refill(resource);
+            }
+        }
+    }
+
+    /**
+     * Starts preparing instances of the map until the pool of the map is full or the maximum amount of instances is reached.
+     *
+     * @param resource
+     * the map to prepare
+     */
+    public void refill(DResourceWorld resource) {
+        MainConfig config = plugin.getMainConfig();
+        if (!isEnabled() || !worlds.isAsyncLifecycleAvailable() || !isServed(resource)) {
+            return;
+        }
+
+        // Pending preloaded instances are registered until they are done and therefore already included in the game worlds
+        while (size(resource) < config.getInstancePoolSize()
+                && worlds.getGameWorlds().size() + size() + pendingFolders < config.getMaxInstances()) {
+            prepare(resource);
+        }
+    }
+
+    private void prepare(DResourceWorld resource) {
+        int generation = getGeneration(resource);
+        pending.merge(resource, 1, Integer::sum);
+
+        if (plugin.getMainConfig().isInstancePoolPreloadEnabled()) {
+            resource.instantiateAsync(true).whenComplete((instance, exception) -> {
+                pending.merge(resource, -1, Integer::sum);
+                if (exception != null) {
+                    return;
+                }
+                worlds.removeInstance(instance);
+                if (generation != getGeneration(resource) || !isEnabled()) {
+                    instance.unloadAndDelete(false, null);
+                } else {
+                    offer(instances, resource, (DGameWorld) instance);
+                }
+            });
+
+        } else {
+            File folder = new File(Bukkit.getWorldContainer(), FOLDER_PREFIX + folderId++);
+            pendingFolders++;
+            CompletableFuture.runAsync(() -> {
+                FileUtil.copyDir(resource.getFolder(), folder, DungeonsXL.EXCLUDED_FILES);
+            }, worlds.getIOExecutor()).whenCompleteAsync((v, exception) -> {
+                pending.merge(resource, -1, Integer::sum);
+                pendingFolders--;
+                if (exception != null || generation != getGeneration(resource) || !isEnabled()) {
+                    deleteFolder(folder);
+                } else {
+                    offer(folders, resource, folder);
+                }
+            }, worlds.getMainThreadExecutor());
+        }
+    }
+
+    private int getGeneration(DResourceWorld resource) {
+        Integer generation = generations.get(resource);
+        return generation != null ? generation : 0;
+    }
+
+    private <T> void offer(Map<DResourceWorld, Deque<T>> pool, DResourceWorld resource, T prepared) {
+        Deque<T> resourcePool = pool.get(resource);
+        if (resourcePool == null) {
+            resourcePool = new ArrayDeque<>();
+            pool.put(resource, resourcePool);
+        }
+        resourcePool.add(prepared);
+    }
+
+    /**
+     * Deletes all prepared instances.
+     */
+    public void clear() {
+        Set<DResourceWorld> resources = new HashSet<>(pending.keySet());
+        resources.addAll(folders.keySet());
+        resources.addAll(instances.keySet());
+        for (DResourceWorld resource : resources) {
+            discard(resource);
+        }
+    }
+
+    /**
+     * Deletes the prepared instances of the map and prepares new ones, e.g. because the map has been changed.
+     *
+     * @param resource
+     * the map to clear
+     */
+    public void clear(DResourceWorld resource) {
+        if (discard(resource)) {
+            refill(resource);
+        }
+    }
+
+    private boolean discard(DResourceWorld resource) {
+        Deque<File> resourceFolders = folders.remove(resource);
+        Deque<DGameWorld> resourceInstances = instances.remove(resource);
+        if (resourceFolders == null && resourceInstances == null && pending.getOrDefault(resource, 0) == 0) {
+            return false;
+        }
+
+        generations.merge(resource, 1, Integer::sum);
+        if (resourceFolders != null) {
+            for (File folder : resourceFolders) {
+                deleteFolder(folder);
+            }
+        }
+        if (resourceInstances != null) {
+            for (DGameWorld instance : resourceInstances) {
+                instance.unloadAndDelete(false, null);
+            }
+        }
+        return true;
+    }
+
+    private void deleteFolder(File folder) {
+        if (worlds.isAsyncLifecycleAvailable()) {
+            worlds.getIOExecutor().execute(() -> FileUtil.removeDir(folder));
+        } else {
+            FileUtil.removeDir(folder);
+        }
+    }
+
+}
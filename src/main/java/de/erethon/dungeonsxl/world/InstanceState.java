@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.world;
+
+/**
+ * The stages of the lifecycle of a {@link DInstanceWorld}.
+ *
+ * @author agent
+ */
+public enum InstanceState {
+
+    /**
+     * The files of the resource are copied to the instance folder.
+     */
+    COPYING,
+    /**
+     * The world is being loaded.
+     */
+    LOADING,
+    /**
+     * The signs of the resource are being deserialized.
+     */
+    DESERIALIZING,
+    /**
+     * The instance is ready to be used.
+     */
+    READY,
+    /**
+     * The world is being unloaded.
+     */
+    UNLOADING,
+    /**
+     * The instance folder is being deleted.
+     */
+    DELETING,
+    /**
+     * The instance does not exist anymore.
+     */
+    DELETED;
+
+    /**
+     * @return if the instance is being or has been deleted
+     */
+    public boolean isDeleted() {
+        return compareTo(UNLOADING) >= 0;
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2012-2018 Frank Baumann
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.erethon.dungeonsxl.world;
+
+import de.erethon.dungeonsxl.util.LongHashMap;
+import de.erethon.dungeonsxl.util.PositionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+/**
+ * The chunks of a game world that are kept loaded, keyed by their packed coordinates.
+ * <p>
+ * Every chunk is reference counted so that chunks that are needed by multiple signs are only released when the last one does not need them
+ * anymore.
+ *
+ * @author agent
+ */
+public class LoadedChunks {
+
+    // The reference count is stored in a mutable one element array to avoid boxing
+    private LongHashMap<int[]> references = new LongHashMap<>();
+
+    /**
+     * @param chunk
+     * the chunk to check
+     * @return if the chunk is kept loaded
+     */
+    public boolean contains(Chunk chunk) {
+        return references.containsKey(PositionUtil.getChunkKey(chunk));
+    }
+
+    /**
+     * @param chunkX
+     * the x coordinate of the chunk
+     * @param chunkZ
+     * the z coordinate of the chunk
+     * @return if the chunk is kept loaded
+     */
+    public boolean contains(int chunkX, int chunkZ) {
+        return references.containsKey(PositionUtil.getChunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Adds a reference to the chunk.
+     *
+     * @param chunkX
+     * the x coordinate of the chunk
+     * @param chunkZ
+     * the z coordinate of the chunk
+     * @return true if the chunk has not been kept loaded before
+     */
+    public boolean acquire(int chunkX, int chunkZ) {
+        long key = PositionUtil.getChunkKey(chunkX, chunkZ);
+        int[] count = references.get(key);
+        if (count != null) {
+            count[0]++;
+            return false;
+        }
+        references.put(key, new int[]{1});
+        return true;
+    }
+
+    /**
+     * Removes a reference to the chunk.
+     *
+     * @param chunkX
+     * the x coordinate of the chunk
+     * @param chunkZ
+     * the z coordinate of the chunk
+     * @return true if this was the last reference and the chunk may be unloaded now
+     */
+    public boolean release(int chunkX, int chunkZ) {
+        long key = PositionUtil.getChunkKey(chunkX, chunkZ);
+        int[] count = references.get(key);
+        if (count == null) {
+            return false;
+        }
+        if (--count[0] > 0) {
+            return false;
+        }
+        references.remove(key);
+        return true;
+    }
+
+    /**
+     * @param world
+     * the world the chunks are in
+     * @return a new list of the chunks that are kept loaded
+     */
+    public List<Chunk> getChunks(World world) {
+        List<Chunk> chunks = new ArrayList<>(references.size());
+        references.forEach((key, count) -> chunks.add(world.getChunkAt(PositionUtil.getChunkX(key), PositionUtil.getChunkZ(key))));
+        return chunks;
+    }
+
+    /**
+     * @return the amount of chunks that are kept loaded
+     */
+    public int size() {
+        return references.size();
+    }
+
+    /**
+     * Releases all chunks.
+     */
+    public void clear() {
+        references.clear();
+    }
+
+}
@@ -118,7 +118,7 @@ public class SignData {
                 Block block = gameWorld.getWorld().getBlockAt(x, y, z);
                 if (block.getState() instanceof Sign) {
                     DSign dSign = DSign.create((Sign) block.getState(), gameWorld);
-                    gameWorld.getDSigns().add(dSign);
+                    gameWorld.addDSign(dSign);
                 }
             }
 